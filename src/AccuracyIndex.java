@@ -0,0 +1,154 @@
+import java.util.*;
+
+/**
+ * 정답률 순 색인
+ * 출제된 적 있는 단어를 (정답률, 출제 횟수, 단어 번호) 순서로 정렬된 트리에 보관하고,
+ * 정답률 0.1% 단위 묶음(1001개)별 단어 수는 펜윅 트리로 따로 관리
+ * "정답률 낮은 k개", "정답률 X% 미만", "단어의 백분위"를 전체를 훑거나 정렬하지 않고 O(log n + k)로 구함
+ * 트리의 키는 넣을 때의 횟수로 만들므로, 횟수가 바뀌면 바뀌기 전 값으로 찾아서 옮김
+ * 단어 객체나 문자열 대신 단어장 안의 번호만 보관하고 결과를 돌려줄 때 단어장에서 꺼냄 (큰 단어장에 단어마다 객체를 두지 않도록)
+ * 변경은 단어장 잠금 안에서만 하고, 조회도 단어장 잠금을 잡고 함 (번호가 중간에 옮겨지지 않도록)
+ */
+public class AccuracyIndex {
+    private static final int BUCKETS = 1001; // 0.0% ~ 100.0%
+
+    // 정답률 낮은 순, 같으면 출제 횟수가 많은 순, 그다음 단어 번호 순
+    private static final class Key implements Comparable<Key> {
+        final int total;
+        final int correct;
+        final int id;
+
+        Key(int total, int correct, int id) {
+            this.total = total;
+            this.correct = correct;
+            this.id = id;
+        }
+
+        double accuracy() {
+            return (double) correct / total * 100.0; // WordData.getAccuracy와 같은 계산
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int order = Long.compare((long) correct * other.total, (long) other.correct * total);
+            if (order == 0) {
+                order = Integer.compare(other.total, total);
+            }
+            return order != 0 ? order : Integer.compare(id, other.id);
+        }
+    }
+
+    private final WordBook wordBook;
+    private final TreeSet<Key> ordered = new TreeSet<>();
+    private final int[] tree = new int[BUCKETS + 1]; // 묶음별 단어 수 (펜윅 트리)
+
+    AccuracyIndex(WordBook wordBook) {
+        this.wordBook = wordBook;
+    }
+
+    // 단어 목록으로 만들기 (단어의 번호는 position)
+    AccuracyIndex(WordBook wordBook, Collection<WordData> words) {
+        this(wordBook);
+        for (WordData wordData : words) {
+            add(wordData.position, wordData.getTotalCount(), wordData.getCorrectCount());
+        }
+    }
+
+    void add(int id, int total, int correct) {
+        if (total == 0) return; // 미출제 단어는 정답률이 없음
+
+        if (ordered.add(new Key(total, correct, id))) {
+            changeCount(bucketOf(total, correct), 1);
+        }
+    }
+
+    void remove(int id, int total, int correct) {
+        if (total == 0) return;
+
+        if (ordered.remove(new Key(total, correct, id))) {
+            changeCount(bucketOf(total, correct), -1);
+        }
+    }
+
+    // 횟수가 바뀐 단어를 새 자리로 옮김
+    void update(int id, int previousTotal, int previousCorrect, int total, int correct) {
+        remove(id, previousTotal, previousCorrect);
+        add(id, total, correct);
+    }
+
+    // 단어장에서 단어의 번호가 바뀜 (삭제된 자리로 마지막 단어를 옮길 때)
+    void move(int from, int to, int total, int correct) {
+        remove(from, total, correct);
+        add(to, total, correct);
+    }
+
+    // 정답률이 가장 낮은 단어 k개 (같은 정답률이면 출제 횟수가 많은 순)
+    public List<WordData> getBottomWords(int k) {
+        synchronized (wordBook) {
+            List<WordData> result = new ArrayList<>(Math.min(k, ordered.size()));
+            for (Key key : ordered) {
+                if (result.size() >= k) break;
+                addWordData(result, key.id);
+            }
+            return result;
+        }
+    }
+
+    // 정답률이 threshold% 미만인 단어 (정답률 낮은 순, 최대 limit개)
+    public List<WordData> getWordsBelow(double threshold, int limit) {
+        synchronized (wordBook) {
+            List<WordData> result = new ArrayList<>();
+            for (Key key : ordered) {
+                if (result.size() >= limit || key.accuracy() >= threshold) break;
+                addWordData(result, key.id);
+            }
+            return result;
+        }
+    }
+
+    // 단어의 백분위 (정답률이 더 낮은 단어의 비율, 같은 묶음은 절반으로 셈, 출제된 적 없으면 -1)
+    public double getPercentileRank(WordData wordData) {
+        synchronized (wordBook) {
+            if (wordData.getTotalCount() == 0 || ordered.isEmpty()) {
+                return -1;
+            }
+            int bucket = bucketOf(wordData.getTotalCount(), wordData.getCorrectCount());
+            int below = prefixCount(bucket);
+            int same = prefixCount(bucket + 1) - below;
+            return (below + same / 2.0) / ordered.size() * 100.0;
+        }
+    }
+
+    // 색인에 들어 있는 단어 수 (출제된 적 있는 단어)
+    public int size() {
+        synchronized (wordBook) {
+            return ordered.size();
+        }
+    }
+
+    // 학습자가 바뀌어 버려진 색인이면 번호가 범위를 벗어날 수 있으므로 건너뜀
+    private void addWordData(List<WordData> result, int id) {
+        if (id < wordBook.getWordCount()) {
+            result.add(wordBook.wordDataAt(id));
+        }
+    }
+
+    private static int bucketOf(int total, int correct) {
+        return (int) ((long) correct * 1000 / total);
+    }
+
+    private void changeCount(int bucket, int delta) {
+        for (int i = bucket + 1; i <= BUCKETS; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // bucket보다 앞 묶음들의 단어 수
+    private int prefixCount(int bucket) {
+        int count = 0;
+        for (int i = bucket; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+}
\ No newline at end of file
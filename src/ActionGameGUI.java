@@ -59,13 +59,9 @@ public class ActionGameGUI extends JFrame {
     }
 
     private void initializeGame() {
-        // 게임용 단어 선택 (최대 8개)
-        java.util.List<WordData> allWords = new ArrayList<>(wordBook.getAllWordData());
-        Collections.shuffle(allWords);
-
-        int gameSize = Math.min(8, allWords.size());
-        for (int i = 0; i < gameSize; i++) {
-            gameWords.add(allWords.get(i));
+        // 게임용 단어 선택 (최대 8개, 정답률이 낮은 단어 우선)
+        for (String word : new QuestionScheduler(wordBook).next(8)) {
+            gameWords.add(wordBook.getWordData(word));
         }
 
         totalPairs = gameWords.size();
@@ -0,0 +1,107 @@
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * 단어장 저장 형식 비교 벤치마크
+ * 같은 단어장을 이진 형식(WordBookCodec)과 이전 형식(Java 직렬화)으로 저장/읽기 해서 시간과 파일 크기를 비교
+ * 두 형식 모두 디스크 동기화까지 포함하며, 임시 폴더에만 씀 (실제 단어장 데이터는 건드리지 않음)
+ * 사용법: java CodecBenchmark [단어 수...] (기본 1000 100000 1000000)
+ */
+public class CodecBenchmark {
+    private static final int[] DEFAULT_SIZES = {1_000, 100_000, 1_000_000};
+    private static final int WARMUP = 2;
+    private static final int REPEATS = 5; // 가장 빠른 회차를 결과로 사용
+
+    private CodecBenchmark() {
+    }
+
+    // 출제/정답 횟수와 복습 정보가 골고루 섞인 단어장 만들기
+    static WordBook createWordBook(int size) {
+        Random random = new Random(size);
+        WordBook wordBook = new WordBook("benchmark");
+        for (int i = 0; i < size; i++) {
+            String word = "word" + i;
+            wordBook.addWord(word, "뜻" + i + ", meaning " + random.nextInt(size));
+            WordData wordData = wordBook.getWordData(word);
+            int total = random.nextInt(20);
+            wordBook.applyCounts(wordData, total, total > 0 ? random.nextInt(total + 1) : 0);
+            if (random.nextInt(4) == 0) {
+                wordBook.applyReview(wordData, 2500 - random.nextInt(1200), random.nextInt(60), random.nextInt(8),
+                        System.currentTimeMillis() + random.nextInt(1_000_000_000));
+            }
+        }
+        return wordBook;
+    }
+
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        Path directory = Files.createTempDirectory("codec-benchmark");
+        try {
+            System.out.printf("%10s  %-10s %10s %10s %12s%n", "단어 수", "형식", "저장(ms)", "읽기(ms)", "파일(KB)");
+            for (int size : sizes) {
+                WordBook wordBook = createWordBook(size);
+                run(size, wordBook, directory.resolve("book.bin"), true);
+                run(size, wordBook, directory.resolve("book.ser"), false);
+            }
+        } finally {
+            Files.deleteIfExists(directory.resolve("book.bin"));
+            Files.deleteIfExists(directory.resolve("book.ser"));
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static void run(int size, WordBook wordBook, Path file, boolean binary)
+            throws IOException, ClassNotFoundException {
+        long bestSave = Long.MAX_VALUE;
+        long bestRead = Long.MAX_VALUE;
+        int loaded = 0;
+        for (int round = 0; round < WARMUP + REPEATS; round++) {
+            long start = System.nanoTime();
+            if (binary) {
+                WordBookCodec.write(file, WordBookCodec.encode(wordBook, 0));
+            } else {
+                writeSerialized(file, wordBook);
+            }
+            long saved = System.nanoTime();
+            WordBook read = binary ? WordBookCodec.read(file).wordBook : readSerialized(file);
+            long end = System.nanoTime();
+
+            loaded = read.getWordCount();
+            if (round >= WARMUP) {
+                bestSave = Math.min(bestSave, saved - start);
+                bestRead = Math.min(bestRead, end - saved);
+            }
+        }
+        if (loaded != size) {
+            throw new IllegalStateException("읽은 단어 수가 다릅니다: " + loaded + " / " + size);
+        }
+        System.out.printf("%10d  %-10s %10.1f %10.1f %12d%n", size, binary ? "이진 형식" : "Java 직렬화",
+                bestSave / 1e6, bestRead / 1e6, Files.size(file) / 1024);
+    }
+
+    // 이전 버전(wordbooks.dat)과 같은 방식으로 저장
+    private static void writeSerialized(Path file, WordBook wordBook) throws IOException {
+        try (FileOutputStream fos = new FileOutputStream(file.toFile());
+             ObjectOutputStream oos = new ObjectOutputStream(new BufferedOutputStream(fos, 1 << 16))) {
+            oos.writeObject(wordBook);
+            oos.flush();
+            fos.getFD().sync();
+        }
+    }
+
+    private static WordBook readSerialized(Path file) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(
+                new BufferedInputStream(new FileInputStream(file.toFile()), 1 << 16))) {
+            return (WordBook) ois.readObject();
+        }
+    }
+}
\ No newline at end of file
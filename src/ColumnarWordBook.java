@@ -0,0 +1,677 @@
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 열(column) 단위로 저장하는 큰 단어장
+ * 단어마다 WordData, 문자열, 해시맵 항목 객체를 만들지 않고 단어 번호로 찾는 기본형 배열에 나눠 저장
+ * 단어와 뜻은 UTF-8 바이트 영역 하나에 이어 붙이고, 단어 -> 번호는 개방 주소법 해시 표(int 배열)로 찾음
+ * 밖으로는 요청할 때마다 만드는 WordData 보기(flyweight)를 돌려주므로 기존 코드는 그대로 사용
+ *
+ * 단어를 삭제하면 마지막 단어를 빈 번호로 옮기고, 버려진 문자열이 영역의 절반을 넘으면 영역을 다시 채움
+ * 정답률/복습/검색/뜻 색인은 처음 요청할 때 열을 훑어 한 번만 만들고 단어 번호만 보관하며 (보기를 두지 않음),
+ * 이후에는 WordBook과 같은 방식으로 갱신하고 삭제 때는 옮겨진 단어의 번호를 바꿈
+ * 열은 모두 단어장 잠금 안에서만 읽고 씀
+ */
+public class ColumnarWordBook extends WordBook {
+    private static final long serialVersionUID = 1L;
+    public static final int THRESHOLD = 100_000; // 이 단어 수 이상이면 읽을 때 열 단위로 저장
+    private static final int MIN_CAPACITY = 16;
+
+    private volatile int count; // 잠금 없이 단어 수를 읽을 수 있도록
+    private byte[] pool = new byte[1024]; // 단어와 뜻 바이트 (단어 바로 뒤에 뜻)
+    private int poolSize;
+    private int garbage;                  // 삭제/수정으로 버려진 바이트 수
+
+    // 단어 번호로 찾는 열
+    private int[] offsets;        // 영역 안의 단어 시작 위치
+    private int[] wordLengths;
+    private int[] meaningLengths;
+    private int[] hashes;         // 단어 String.hashCode()
+    private int[] totals;
+    private int[] corrects;
+    private int[] easeFactors;
+    private int[] intervals;
+    private int[] repetitions;
+    private long[] dueTimes;
+
+    private int[] table;          // 단어 번호 + 1 (0이면 빈 칸), 크기는 2의 거듭제곱이고 절반 이하만 채움
+
+    private transient AccuracyIndex accuracyIndex;
+    private transient DueIndex dueIndex;
+    private transient WordSearchIndex searchIndex;
+    private transient MeaningIndex meaningIndex;
+
+    public ColumnarWordBook(String name) {
+        this(name, MIN_CAPACITY);
+    }
+
+    public ColumnarWordBook(String name, int expectedCount) {
+        super(name);
+        allocate(Math.max(MIN_CAPACITY, expectedCount));
+    }
+
+    // 단어 데이터 복사해서 만들기 (통계와 복습 정보 포함)
+    public static ColumnarWordBook copyOf(WordBook wordBook) {
+        ColumnarWordBook columnar = new ColumnarWordBook(wordBook.getName(), wordBook.getWordCount());
+        for (WordData wordData : wordBook.getAllWordData()) {
+            columnar.restoreWordData(wordData);
+        }
+        return columnar;
+    }
+
+    private void allocate(int capacity) {
+        offsets = new int[capacity];
+        wordLengths = new int[capacity];
+        meaningLengths = new int[capacity];
+        hashes = new int[capacity];
+        totals = new int[capacity];
+        corrects = new int[capacity];
+        easeFactors = new int[capacity];
+        intervals = new int[capacity];
+        repetitions = new int[capacity];
+        dueTimes = new long[capacity];
+        table = new int[tableSize(capacity)];
+    }
+
+    private static int tableSize(int capacity) {
+        return Integer.highestOneBit(Math.max(MIN_CAPACITY, capacity) * 2 - 1) << 1;
+    }
+
+    // 출제/정답 횟수 열을 바꾸고 호출한 쪽의 보기와 정답률 색인에도 반영
+    @Override
+    synchronized void applyCounts(WordData wordData, int totalDelta, int correctDelta) {
+        StatisticsOverlay overlay = getOverlay();
+        String word = wordData.getWord();
+        int id = findId(word);
+        if (overlay != null) {
+            int total = overlay.getTotalCount(word);
+            int correct = overlay.getCorrectCount(word);
+            applyLearnerCounts(wordData, totalDelta, correctDelta);
+            if (accuracyIndex != null && id >= 0) {
+                accuracyIndex.update(id, total, correct, total + totalDelta, correct + correctDelta);
+            }
+            return;
+        }
+        wordData.applyCounts(totalDelta, correctDelta);
+        if (id >= 0) {
+            int total = totals[id];
+            int correct = corrects[id];
+            getSharedStatistics().update(total, correct, totalDelta, correctDelta);
+            totals[id] += totalDelta;
+            corrects[id] += correctDelta;
+            if (accuracyIndex != null) {
+                accuracyIndex.update(id, total, correct, totals[id], corrects[id]);
+            }
+        }
+    }
+
+    // 복습 정보 열을 바꾸고 복습 예정일 색인에서 새 날짜로 옮김
+    @Override
+    synchronized void applyReview(WordData wordData, int easeFactor, int interval, int repetitions, long dueTime) {
+        StatisticsOverlay overlay = getOverlay();
+        String word = wordData.getWord();
+        int id = findId(word);
+        long previousDueTime = id >= 0 ? dueTimeOf(id, word) : 0L;
+        if (overlay != null) {
+            overlay.applyReview(word, easeFactor, interval, repetitions, dueTime);
+        } else {
+            if (id >= 0) {
+                this.easeFactors[id] = easeFactor;
+                this.intervals[id] = interval;
+                this.repetitions[id] = repetitions;
+                this.dueTimes[id] = dueTime;
+            }
+            wordData.applyReview(easeFactor, interval, repetitions, dueTime);
+        }
+        if (dueIndex != null && id >= 0) {
+            dueIndex.update(id, previousDueTime, dueTime);
+        }
+    }
+
+    // 색인에 넣을 값 (학습자가 선택되어 있으면 그 학습자의 기록)
+    private int totalOf(int id, String word) {
+        StatisticsOverlay overlay = getOverlay();
+        return overlay != null ? overlay.getTotalCount(word) : totals[id];
+    }
+
+    private int correctOf(int id, String word) {
+        StatisticsOverlay overlay = getOverlay();
+        return overlay != null ? overlay.getCorrectCount(word) : corrects[id];
+    }
+
+    private long dueTimeOf(int id, String word) {
+        StatisticsOverlay overlay = getOverlay();
+        return overlay != null ? overlay.getDueTime(word) : dueTimes[id];
+    }
+
+    // 학습자가 바뀌면 정답률/복습 색인은 필요할 때 다시 만듦 (검색/뜻 색인은 그대로 사용)
+    @Override
+    synchronized void setOverlay(StatisticsOverlay overlay) {
+        if (overlay != getOverlay()) {
+            super.setOverlay(overlay);
+            accuracyIndex = null;
+            dueIndex = null;
+        }
+    }
+
+    // 정답률 순 색인 (처음 호출할 때 한 번만 만들고 이후에는 횟수가 바뀔 때마다 갱신)
+    // 횟수 열만 훑음 (학습자가 선택되어 있으면 그 학습자가 풀어 본 단어만 훑음)
+    @Override
+    public synchronized AccuracyIndex getAccuracyIndex() {
+        if (accuracyIndex == null) {
+            AccuracyIndex index = new AccuracyIndex(this);
+            StatisticsOverlay overlay = getOverlay();
+            if (overlay != null) {
+                overlay.forEach((word, total, correct, easeFactor, interval, repetitionCount, dueTime) -> {
+                    int id = total > 0 ? findId(word) : -1;
+                    if (id >= 0) {
+                        index.add(id, total, correct);
+                    }
+                });
+            } else {
+                for (int id = 0; id < count; id++) {
+                    index.add(id, totals[id], corrects[id]);
+                }
+            }
+            accuracyIndex = index;
+        }
+        return accuracyIndex;
+    }
+
+    // 복습 예정일 색인 (처음 호출할 때 한 번만 만들고 이후에는 복습할 때마다 갱신)
+    @Override
+    public synchronized DueIndex getDueIndex() {
+        if (dueIndex == null) {
+            DueIndex index = new DueIndex(this);
+            StatisticsOverlay overlay = getOverlay();
+            for (int id = 0; id < count; id++) {
+                index.add(id, overlay != null ? 0L : dueTimes[id]);
+            }
+            if (overlay != null) {
+                overlay.forEach((word, total, correct, easeFactor, interval, repetitionCount, dueTime) -> {
+                    int id = dueTime != 0 ? findId(word) : -1;
+                    if (id >= 0) {
+                        index.update(id, 0L, dueTime);
+                    }
+                });
+            }
+            dueIndex = index;
+        }
+        return dueIndex;
+    }
+
+    // 검색 색인 (처음 호출할 때 한 번만 만들고 이후에는 단어가 추가/삭제/수정될 때마다 갱신)
+    @Override
+    public synchronized WordSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            WordSearchIndex index = new WordSearchIndex(this);
+            for (int id = 0; id < count; id++) {
+                index.add(id, wordAt(id), meaningAt(id));
+            }
+            searchIndex = index;
+        }
+        return searchIndex;
+    }
+
+    // 뜻 -> 단어 색인 (뜻 항목의 해시와 번호만 보관)
+    @Override
+    public synchronized MeaningIndex getMeaningIndex() {
+        if (meaningIndex == null) {
+            MeaningIndex index = new MeaningIndex(this);
+            for (int id = 0; id < count; id++) {
+                index.add(id, meaningAt(id));
+            }
+            meaningIndex = index;
+        }
+        return meaningIndex;
+    }
+
+    @Override
+    public boolean addWord(String word, String meaning) {
+        if (word == null || word.trim().isEmpty() ||
+                meaning == null || meaning.trim().isEmpty()) {
+            return false;
+        }
+
+        word = word.trim();
+        synchronized (this) {
+            if (findId(word) >= 0) {
+                return false; // 중복 단어
+            }
+            insert(word, meaning.trim(), 0, 0, 0, 0, 0, 0L);
+        }
+        String added = word;
+        changed(() -> discard(added));
+        return true;
+    }
+
+    @Override
+    public int addWords(Map<String, String> entries) {
+        List<String> addedWords = new ArrayList<>();
+        synchronized (this) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                String word = entry.getKey();
+                String meaning = entry.getValue();
+                if (word == null || word.trim().isEmpty() ||
+                        meaning == null || meaning.trim().isEmpty()) {
+                    continue;
+                }
+
+                word = word.trim();
+                if (findId(word) >= 0) {
+                    continue; // 중복 단어
+                }
+
+                insert(word, meaning.trim(), 0, 0, 0, 0, 0, 0L);
+                addedWords.add(word);
+            }
+        }
+        if (!addedWords.isEmpty()) {
+            changed(() -> addedWords.forEach(this::discard));
+        }
+        return addedWords.size();
+    }
+
+    // 저장소에서 읽은 단어 복원 (저장 요청 없음, 같은 단어가 있으면 덮어씀)
+    @Override
+    synchronized void restoreWordData(WordData wordData) {
+        discard(wordData.getWord());
+        insert(wordData.getWord(), wordData.getMeaning(), wordData.getSharedTotalCount(),
+                wordData.getSharedCorrectCount(), wordData.getSharedEaseFactor(), wordData.getSharedInterval(),
+                wordData.getSharedRepetitions(), wordData.getSharedDueTime());
+    }
+
+    @Override
+    public boolean removeWord(String word) {
+        WordData removed;
+        synchronized (this) {
+            int id = word != null ? findId(word) : -1;
+            if (id < 0) {
+                return false;
+            }
+            removed = wordDataAt(id);
+            delete(id);
+        }
+        changed(() -> restoreWordData(removed));
+        return true;
+    }
+
+    @Override
+    public boolean updateWord(String word, String newMeaning) {
+        String oldMeaning;
+        synchronized (this) {
+            int id = word != null ? findId(word) : -1;
+            if (id < 0) {
+                return false;
+            }
+            oldMeaning = meaningAt(id);
+            changeMeaning(id, newMeaning.trim());
+        }
+        changed(() -> {
+            synchronized (this) {
+                int current = findId(word);
+                if (current >= 0) {
+                    changeMeaning(current, oldMeaning);
+                }
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public synchronized WordData getWordData(String word) {
+        if (word == null) return null;
+        int id = findId(word);
+        return id >= 0 ? wordDataAt(id) : null;
+    }
+
+    @Override
+    public Set<String> getAllWords() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new IdIterator<String>() {
+                    @Override
+                    String get(int id) {
+                        return wordAt(id);
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof String && getWordData((String) o) != null;
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    // 필요한 단어만 그때그때 만들어 돌려주는 보기(view)
+    @Override
+    public Collection<WordData> getAllWordData() {
+        return new AbstractCollection<WordData>() {
+            @Override
+            public Iterator<WordData> iterator() {
+                return new IdIterator<WordData>() {
+                    @Override
+                    WordData get(int id) {
+                        return wordDataAt(id);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    @Override
+    synchronized String wordAt(int index) {
+        return new String(pool, offsets[index], wordLengths[index], StandardCharsets.UTF_8);
+    }
+
+    @Override
+    synchronized String meaningAt(int id) {
+        return new String(pool, offsets[id] + wordLengths[id], meaningLengths[id], StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int getWordCount() {
+        return count;
+    }
+
+    @Override
+    synchronized WordData wordDataAt(int id) {
+        WordData wordData = new WordData(wordAt(id), meaningAt(id));
+        wordData.applyCounts(totals[id], corrects[id]);
+        wordData.applyReview(easeFactors[id], intervals[id], repetitions[id], dueTimes[id]);
+        wordData.setWordBook(this);
+        wordData.position = id;
+        return wordData;
+    }
+
+    // 새 단어를 마지막 번호에 추가
+    private void insert(String word, String meaning, int total, int correct,
+                        int easeFactor, int interval, int repetitionCount, long dueTime) {
+        if (count == offsets.length) {
+            grow(count * 2);
+        }
+        byte[] wordBytes = word.getBytes(StandardCharsets.UTF_8);
+        byte[] meaningBytes = meaning.getBytes(StandardCharsets.UTF_8);
+
+        int id = count++;
+        offsets[id] = append(wordBytes, meaningBytes);
+        wordLengths[id] = wordBytes.length;
+        meaningLengths[id] = meaningBytes.length;
+        hashes[id] = word.hashCode();
+        totals[id] = total;
+        corrects[id] = correct;
+        easeFactors[id] = easeFactor;
+        intervals[id] = interval;
+        repetitions[id] = repetitionCount;
+        dueTimes[id] = dueTime;
+        tableInsert(id);
+
+        getSharedStatistics().add(total, correct);
+        learnerWordAdded(word);
+        if (accuracyIndex != null) {
+            accuracyIndex.add(id, totalOf(id, word), correctOf(id, word));
+        }
+        if (dueIndex != null) {
+            dueIndex.add(id, dueTimeOf(id, word));
+        }
+        if (searchIndex != null) {
+            searchIndex.add(id, word, meaning);
+        }
+        if (meaningIndex != null) {
+            meaningIndex.add(id, meaning);
+        }
+    }
+
+    // 저장 요청 없이 단어 제거 (되돌리기용)
+    private synchronized void discard(String word) {
+        int id = findId(word);
+        if (id >= 0) {
+            delete(id);
+        }
+    }
+
+    // 마지막 단어를 빈 번호로 옮겨서 O(1)에 제거 (색인에서도 옮긴 단어의 번호를 바꿈)
+    private void delete(int id) {
+        boolean indexed = accuracyIndex != null || dueIndex != null || searchIndex != null || meaningIndex != null;
+        if (indexed) {
+            removeFromIndexes(id);
+        }
+        getSharedStatistics().remove(totals[id], corrects[id]);
+        if (getOverlay() != null) {
+            learnerWordRemoved(wordAt(id));
+        }
+        garbage += wordLengths[id] + meaningLengths[id];
+        tableRemove(id);
+
+        int last = --count;
+        if (id != last) {
+            tableReplace(last, id);
+            offsets[id] = offsets[last];
+            wordLengths[id] = wordLengths[last];
+            meaningLengths[id] = meaningLengths[last];
+            hashes[id] = hashes[last];
+            totals[id] = totals[last];
+            corrects[id] = corrects[last];
+            easeFactors[id] = easeFactors[last];
+            intervals[id] = intervals[last];
+            repetitions[id] = repetitions[last];
+            dueTimes[id] = dueTimes[last];
+            if (indexed) {
+                moveInIndexes(last, id);
+            }
+        }
+        compactIfNeeded();
+    }
+
+    // 번호 id의 단어를 색인에서 뺌 (열을 옮기기 전에 호출)
+    private void removeFromIndexes(int id) {
+        String word = wordAt(id);
+        String meaning = meaningAt(id);
+        if (accuracyIndex != null) {
+            accuracyIndex.remove(id, totalOf(id, word), correctOf(id, word));
+        }
+        if (dueIndex != null) {
+            dueIndex.remove(id, dueTimeOf(id, word));
+        }
+        if (searchIndex != null) {
+            searchIndex.remove(id, word, meaning);
+        }
+        if (meaningIndex != null) {
+            meaningIndex.remove(id, meaning);
+        }
+    }
+
+    // from에 있던 단어의 열을 to로 옮긴 뒤 색인의 번호도 바꿈
+    private void moveInIndexes(int from, int to) {
+        String word = wordAt(to);
+        if (accuracyIndex != null) {
+            accuracyIndex.move(from, to, totalOf(to, word), correctOf(to, word));
+        }
+        if (dueIndex != null) {
+            dueIndex.move(from, to, dueTimeOf(to, word));
+        }
+        if (searchIndex != null || meaningIndex != null) {
+            String meaning = meaningAt(to);
+            if (searchIndex != null) {
+                searchIndex.move(from, to, word, meaning);
+            }
+            if (meaningIndex != null) {
+                meaningIndex.move(from, to, meaning);
+            }
+        }
+    }
+
+    // 뜻은 단어 바로 뒤에 있어야 하므로 단어와 새 뜻을 영역 끝에 다시 씀
+    private void changeMeaning(int id, String meaning) {
+        String word = searchIndex != null || meaningIndex != null ? wordAt(id) : null;
+        String oldMeaning = word != null ? meaningAt(id) : null;
+        byte[] wordBytes = Arrays.copyOfRange(pool, offsets[id], offsets[id] + wordLengths[id]);
+        byte[] meaningBytes = meaning.getBytes(StandardCharsets.UTF_8);
+        garbage += wordLengths[id] + meaningLengths[id];
+        offsets[id] = append(wordBytes, meaningBytes);
+        meaningLengths[id] = meaningBytes.length;
+        if (searchIndex != null) {
+            searchIndex.remove(id, word, oldMeaning);
+            searchIndex.add(id, word, meaning);
+        }
+        if (meaningIndex != null) {
+            meaningIndex.remove(id, oldMeaning);
+            meaningIndex.add(id, meaning);
+        }
+        compactIfNeeded();
+    }
+
+    private int append(byte[] wordBytes, byte[] meaningBytes) {
+        int needed = poolSize + wordBytes.length + meaningBytes.length;
+        if (needed < 0) {
+            throw new IllegalStateException("단어장 문자열 영역이 2GB를 넘을 수 없습니다.");
+        }
+        if (needed > pool.length) {
+            pool = Arrays.copyOf(pool, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(needed, pool.length * 3L / 2)));
+        }
+        int offset = poolSize;
+        System.arraycopy(wordBytes, 0, pool, offset, wordBytes.length);
+        System.arraycopy(meaningBytes, 0, pool, offset + wordBytes.length, meaningBytes.length);
+        poolSize = needed;
+        return offset;
+    }
+
+    // 버려진 바이트가 절반을 넘으면 살아 있는 문자열만 번호 순으로 다시 채움
+    private void compactIfNeeded() {
+        if (garbage < 4096 || garbage * 2 < poolSize) {
+            return;
+        }
+        byte[] compacted = new byte[Math.max(1024, (poolSize - garbage) * 3 / 2)];
+        int position = 0;
+        for (int id = 0; id < count; id++) {
+            int length = wordLengths[id] + meaningLengths[id];
+            System.arraycopy(pool, offsets[id], compacted, position, length);
+            offsets[id] = position;
+            position += length;
+        }
+        pool = compacted;
+        poolSize = position;
+        garbage = 0;
+    }
+
+    private void grow(int capacity) {
+        offsets = Arrays.copyOf(offsets, capacity);
+        wordLengths = Arrays.copyOf(wordLengths, capacity);
+        meaningLengths = Arrays.copyOf(meaningLengths, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
+        totals = Arrays.copyOf(totals, capacity);
+        corrects = Arrays.copyOf(corrects, capacity);
+        easeFactors = Arrays.copyOf(easeFactors, capacity);
+        intervals = Arrays.copyOf(intervals, capacity);
+        repetitions = Arrays.copyOf(repetitions, capacity);
+        dueTimes = Arrays.copyOf(dueTimes, capacity);
+
+        table = new int[tableSize(capacity)];
+        for (int id = 0; id < count; id++) {
+            tableInsert(id);
+        }
+    }
+
+    // 해시 표에서 단어 번호 찾기 (선형 탐사, 해시가 같을 때만 바이트 비교)
+    private int findId(String word) {
+        int hash = word.hashCode();
+        int mask = table.length - 1;
+        byte[] key = null;
+        for (int slot = mix(hash) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int id = table[slot] - 1;
+            if (hashes[id] == hash) {
+                if (key == null) {
+                    key = word.getBytes(StandardCharsets.UTF_8);
+                }
+                if (wordLengths[id] == key.length
+                        && Arrays.equals(pool, offsets[id], offsets[id] + key.length, key, 0, key.length)) {
+                    return id;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void tableInsert(int id) {
+        int mask = table.length - 1;
+        int slot = mix(hashes[id]) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = id + 1;
+    }
+
+    private int slotOf(int id) {
+        int mask = table.length - 1;
+        int slot = mix(hashes[id]) & mask;
+        while (table[slot] != id + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // 옮겨진 단어의 칸만 새 번호로 바꿈
+    private void tableReplace(int from, int to) {
+        table[slotOf(from)] = to + 1;
+    }
+
+    // 빈 칸을 만들고 뒤따르는 묶음을 당겨서 탐사가 끊기지 않게 함 (묘비 없음)
+    private void tableRemove(int id) {
+        int mask = table.length - 1;
+        int hole = slotOf(id);
+        table[hole] = 0;
+        for (int slot = (hole + 1) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int home = mix(hashes[table[slot] - 1]) & mask;
+            // home이 (hole, slot] 구간 밖이면 hole로 당겨도 찾을 수 있음
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                table[hole] = table[slot];
+                table[slot] = 0;
+                hole = slot;
+            }
+        }
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    // 번호 순서대로 도는 반복자 (다른 스레드가 단어를 지워도 끝을 넘지 않도록 다음 단어를 잠금 안에서 미리 읽음)
+    private abstract class IdIterator<T> implements Iterator<T> {
+        private int next = 0;
+        private T pending;
+
+        abstract T get(int id);
+
+        @Override
+        public boolean hasNext() {
+            if (pending == null) {
+                synchronized (ColumnarWordBook.this) {
+                    if (next < count) {
+                        pending = get(next++);
+                    }
+                }
+            }
+            return pending != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            T result = pending;
+            pending = null;
+            return result;
+        }
+    }
+}
\ No newline at end of file
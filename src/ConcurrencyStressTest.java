@@ -0,0 +1,177 @@
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단어장 동시 사용 스트레스 테스트
+ * 여러 스레드가 같은 단어들의 출제/정답 횟수를 올리고 복습하는 동안,
+ * 다른 스레드는 단어 추가/삭제/수정, 저장용 스냅샷, 검색/정답률/복습 색인 조회를 계속함
+ * 끝나면 잃어버린 횟수가 없는지, 스냅샷과 집계와 색인이 서로 맞는지 확인 (WordBook, ColumnarWordBook 각각)
+ * 사용법: java ConcurrencyStressTest [쓰기 스레드 수] [스레드당 횟수] (기본 4 200000, 실패하면 종료 코드 1)
+ */
+public class ConcurrencyStressTest {
+    private static final int HOT_WORDS = 100;
+    private static final int CHURN_WORDS = 500;
+    private static final long FAR_FUTURE = Long.MAX_VALUE / 4;
+
+    private ConcurrencyStressTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int writers = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int perWriter = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+
+        boolean passed = run(new WordBook("stress"), writers, perWriter);
+        passed &= run(new ColumnarWordBook("stress"), writers, perWriter);
+        System.out.println(passed ? "통과" : "실패");
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static boolean run(WordBook wordBook, int writers, int perWriter) throws Exception {
+        for (int i = 0; i < HOT_WORDS; i++) {
+            wordBook.addWord("hot" + i, "뜻" + i);
+        }
+        // 색인을 먼저 만들어 두어 이후 변경이 색인에 바로 반영되는지도 확인
+        wordBook.getAccuracyIndex();
+        wordBook.getDueIndex();
+        wordBook.getSearchIndex();
+
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger snapshots = new AtomicInteger();
+        AtomicInteger queries = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(writers + 3);
+        long start = System.nanoTime();
+
+        List<Future<?>> writerTasks = new ArrayList<>();
+        for (int t = 0; t < writers; t++) {
+            int seed = t;
+            writerTasks.add(pool.submit(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < perWriter; i++) {
+                    WordData wordData = wordBook.getWordData("hot" + random.nextInt(HOT_WORDS));
+                    wordData.increaseTotal();
+                    wordData.increaseCorrect();
+                    if (i % 64 == 0) {
+                        wordData.review(random.nextInt(6), System.currentTimeMillis());
+                    }
+                }
+            }));
+        }
+
+        // 단어 추가/삭제/수정 (출제 대상 단어의 뜻도 바꿈)
+        Future<?> churn = pool.submit(() -> {
+            int i = 0;
+            while (!stop.get()) {
+                try {
+                    wordBook.addWord("tmp" + (i % CHURN_WORDS), "임시");
+                    wordBook.removeWord("tmp" + ((i * 7) % CHURN_WORDS));
+                    wordBook.updateWord("hot" + (i % HOT_WORDS), "뜻" + (i % HOT_WORDS));
+                    i++;
+                } catch (RuntimeException e) {
+                    report(errors, "단어 변경", e);
+                }
+            }
+        });
+
+        // 저장용 스냅샷: 단어별 횟수의 합이 스냅샷 안의 집계와 같아야 함
+        Future<?> saver = pool.submit(() -> {
+            while (!stop.get()) {
+                try {
+                    WordBook copy = WordBookCodec.decode(WordBookCodec.encode(wordBook, 0)).wordBook;
+                    long sum = 0;
+                    for (WordData wordData : copy.getAllWordData()) {
+                        sum += wordData.getTotalCount();
+                    }
+                    long counted = copy.getStatistics().getTotalQuestions();
+                    if (sum != counted) {
+                        report(errors, "스냅샷", new IllegalStateException(sum + " != " + counted));
+                    }
+                    snapshots.incrementAndGet();
+                } catch (Exception e) {
+                    report(errors, "스냅샷", e);
+                }
+            }
+        });
+
+        // 색인 조회
+        Future<?> reader = pool.submit(() -> {
+            while (!stop.get()) {
+                try {
+                    wordBook.getSearchIndex().searchPrefix("hot1", 20);
+                    wordBook.getAccuracyIndex().getBottomWords(10);
+                    wordBook.getDueIndex().getDueWords(FAR_FUTURE, 10);
+                    wordBook.getRandomWord();
+                    queries.incrementAndGet();
+                } catch (RuntimeException e) {
+                    report(errors, "조회", e);
+                }
+            }
+        });
+
+        for (Future<?> task : writerTasks) {
+            task.get();
+        }
+        stop.set(true);
+        churn.get();
+        saver.get();
+        reader.get();
+        pool.shutdown();
+        long elapsed = System.nanoTime() - start;
+
+        long expected = (long) writers * perWriter;
+        long total = 0;
+        long correct = 0;
+        for (int i = 0; i < HOT_WORDS; i++) {
+            WordData wordData = wordBook.getWordData("hot" + i);
+            total += wordData.getTotalCount();
+            correct += wordData.getCorrectCount();
+        }
+
+        List<String> failures = new ArrayList<>();
+        if (total != expected || correct != expected) {
+            failures.add("잃어버린 횟수: 출제 " + total + ", 정답 " + correct + " (기대값 " + expected + ")");
+        }
+        if (wordBook.getStatistics().getTotalQuestions() != total) {
+            failures.add("집계 불일치: " + wordBook.getStatistics().getTotalQuestions() + " != " + total);
+        }
+        AccuracyIndex rebuiltAccuracy = new AccuracyIndex(wordBook, wordBook.getAllWordData());
+        if (!words(wordBook.getAccuracyIndex().getBottomWords(Integer.MAX_VALUE))
+                .equals(words(rebuiltAccuracy.getBottomWords(Integer.MAX_VALUE)))) {
+            failures.add("정답률 색인이 다시 만든 색인과 다름");
+        }
+        DueIndex rebuiltDue = new DueIndex(wordBook, wordBook.getAllWordData());
+        if (wordBook.getDueIndex().getDueCount(FAR_FUTURE) != rebuiltDue.getDueCount(FAR_FUTURE)
+                || wordBook.getDueIndex().getNewWords(Integer.MAX_VALUE).size()
+                != rebuiltDue.getNewWords(Integer.MAX_VALUE).size()) {
+            failures.add("복습 색인이 다시 만든 색인과 다름");
+        }
+        if (errors.get() > 0) {
+            failures.add("작업 중 오류 " + errors.get() + "회");
+        }
+
+        System.out.printf("%s: 스레드 %d개 x %d회, %.1f초, 스냅샷 %d회, 조회 %d회 - %s%n",
+                wordBook.getClass().getSimpleName(), writers, perWriter, elapsed / 1e9,
+                snapshots.get(), queries.get(), failures.isEmpty() ? "이상 없음" : "실패");
+        for (String failure : failures) {
+            System.out.println("  " + failure);
+        }
+        return failures.isEmpty();
+    }
+
+    // 단어 순서 비교용 (같은 단어 객체가 아니어도 됨)
+    private static List<String> words(List<WordData> list) {
+        List<String> words = new ArrayList<>(list.size());
+        for (WordData wordData : list) {
+            words.add(wordData.getWord());
+        }
+        return words;
+    }
+
+    private static void report(AtomicInteger errors, String task, Exception e) {
+        if (errors.incrementAndGet() <= 5) {
+            System.err.println(task + " 중 오류 발생: " + e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+/**
+ * 퀴즈 오답 생성 벤치마크
+ * 이전 방식(단어장 전체 복사 + 섞기)과 DistractorEngine(무작위, 헷갈리는 오답 우선)의
+ * 문제 하나당 시간과 할당량을 단어장 크기별로 비교
+ * 사용법: java DistractorBenchmark [단어 수...] (기본 1000 10000 100000 1000000)
+ */
+public class DistractorBenchmark {
+    private static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000, 1_000_000};
+    private static final long WARMUP_NANOS = 500_000_000L;
+    private static final long MEASURE_NANOS = 2_000_000_000L;
+    private static final int DISTRACTORS = 3;
+
+    private static volatile int sink; // 결과를 버리지 않도록 (JIT가 호출을 없애지 못하게)
+
+    private DistractorBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.printf("%10s  %-14s %14s %16s%n", "단어 수", "방식", "문제당(µs)", "문제당 할당(B)");
+        for (int size : sizes) {
+            WordBook wordBook = CodecBenchmark.createWordBook(size);
+            DistractorEngine random = new DistractorEngine(wordBook);
+            DistractorEngine confusable = new DistractorEngine(wordBook, DistractorEngine.CONFUSABLE);
+
+            run(size, "이전 방식", wordBook, answer -> copyAndShuffle(wordBook, answer));
+            run(size, "무작위", wordBook, answer -> random.pick(answer, DISTRACTORS, false));
+            run(size, "헷갈리는 오답", wordBook, answer -> confusable.pick(answer, DISTRACTORS, false));
+        }
+    }
+
+    private interface Generator {
+        List<String> generate(WordData answer);
+    }
+
+    private static void run(int size, String label, WordBook wordBook, Generator generator) {
+        measure(wordBook, generator, WARMUP_NANOS);
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        long questions = measure(wordBook, generator, MEASURE_NANOS);
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        System.out.printf("%10d  %-14s %14.2f %16s%n", size, label, elapsed / 1e3 / questions,
+                allocatedBefore < 0 ? "-" : String.valueOf(allocated / questions));
+    }
+
+    // 정해진 시간 동안 무작위 정답으로 문제를 만들고 만든 문제 수를 돌려줌
+    private static long measure(WordBook wordBook, Generator generator, long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        long questions = 0;
+        int hash = 0;
+        do {
+            WordData answer = wordBook.getWordData(wordBook.getRandomWord());
+            for (String option : generator.generate(answer)) {
+                hash += option.length();
+            }
+            questions++;
+        } while (System.nanoTime() < deadline);
+        sink += hash;
+        return questions;
+    }
+
+    // QuizGameGUI에 있던 이전 방식: 모든 단어를 복사해서 정답을 지우고 섞은 뒤 앞에서부터 고름
+    private static List<String> copyAndShuffle(WordBook wordBook, WordData answer) {
+        List<String> options = new ArrayList<>();
+        options.add(answer.getMeaning());
+        List<WordData> allWords = new ArrayList<>(wordBook.getAllWordData());
+        allWords.remove(answer);
+        Collections.shuffle(allWords);
+        for (WordData wordData : allWords) {
+            if (options.size() > DISTRACTORS) break;
+            if (!options.contains(wordData.getMeaning())) {
+                options.add(wordData.getMeaning());
+            }
+        }
+        return options.subList(1, options.size());
+    }
+
+    // 현재 스레드가 지금까지 할당한 바이트 (지원하지 않는 JVM이면 -1)
+    static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
\ No newline at end of file
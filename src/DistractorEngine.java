@@ -0,0 +1,95 @@
+import java.util.*;
+
+/**
+ * 퀴즈 오답(선택지) 생성기
+ * 단어장 전체를 복사하거나 섞지 않고 무작위로 뽑은 후보 중에서 오답 k개를 고름
+ * 평가 기준(Scorer)을 지정하면 정답과 헷갈리기 쉬운 후보를 우선으로 고름
+ */
+public class DistractorEngine {
+    private static final int CANDIDATE_FACTOR = 4; // 평가 기준이 있을 때 오답 하나당 살펴볼 후보 수
+
+    // 후보가 정답과 얼마나 헷갈리는지 (클수록 우선)
+    public interface Scorer {
+        double score(String answer, String candidate);
+    }
+
+    // 앞부분이 같고 길이가 비슷할수록 헷갈리는 선택지로 봄
+    public static final Scorer CONFUSABLE = (answer, candidate) -> {
+        int limit = Math.min(answer.length(), candidate.length());
+        int prefix = 0;
+        while (prefix < limit && Character.toLowerCase(answer.charAt(prefix))
+                == Character.toLowerCase(candidate.charAt(prefix))) {
+            prefix++;
+        }
+        return prefix * 2.0 - Math.abs(answer.length() - candidate.length());
+    };
+
+    private final WordBook wordBook;
+    private final Scorer scorer; // null이면 무작위
+
+    public DistractorEngine(WordBook wordBook) {
+        this(wordBook, null);
+    }
+
+    public DistractorEngine(WordBook wordBook, Scorer scorer) {
+        this.wordBook = wordBook;
+        this.scorer = scorer;
+    }
+
+    // 정답과 다른 선택지 최대 k개 (meaningFirst면 단어, 아니면 뜻)
+    // 정답과 뜻 항목이 하나라도 같은 단어는 정답이 둘이 되므로 고르지 않음
+    // (뽑은 후보의 뜻만 정답의 뜻 항목과 비교하므로 뜻 색인을 만들지 않음 - 큰 단어장에서 단어마다 객체가 생기지 않도록)
+    public List<String> pick(WordData answer, int k, boolean meaningFirst) {
+        String answerText = optionText(answer, meaningFirst);
+        List<String> answerTokens = MeaningIndex.tokensOf(answer.getMeaning());
+        int wanted = scorer == null ? k : k * CANDIDATE_FACTOR;
+        Set<String> candidates = new LinkedHashSet<>(wanted * 2);
+        candidates.add(answerText);
+
+        // 무작위로 뽑아 중복만 거름 (단어 수가 충분하면 기대 O(k))
+        int attempts = wanted * 4 + 16;
+        while (candidates.size() <= wanted && attempts-- > 0) {
+            String word = wordBook.getRandomWord();
+            if (word == null) break;
+            String candidate = candidateText(word, answerTokens, meaningFirst);
+            if (candidate != null) {
+                candidates.add(candidate);
+            }
+        }
+
+        // 단어가 적거나 같은 뜻이 많아 다 채우지 못한 경우에만 전체를 훑음
+        if (candidates.size() <= wanted && attempts < 0) {
+            for (String word : wordBook.sample(wordBook.getWordCount())) {
+                if (candidates.size() > wanted) break;
+                String candidate = candidateText(word, answerTokens, meaningFirst);
+                if (candidate != null) {
+                    candidates.add(candidate);
+                }
+            }
+        }
+
+        candidates.remove(answerText);
+        List<String> distractors = new ArrayList<>(candidates);
+        if (scorer != null) {
+            Map<String, Double> scores = new HashMap<>(distractors.size() * 2);
+            for (String candidate : distractors) {
+                scores.put(candidate, scorer.score(answerText, candidate));
+            }
+            distractors.sort((a, b) -> Double.compare(scores.get(b), scores.get(a)));
+        }
+        return distractors.size() > k ? new ArrayList<>(distractors.subList(0, k)) : distractors;
+    }
+
+    // 뽑은 단어의 선택지 문자열 (정답과 뜻이 겹치거나 뽑은 뒤 다른 스레드가 삭제했으면 null)
+    private String candidateText(String word, List<String> answerTokens, boolean meaningFirst) {
+        WordData wordData = wordBook.getWordData(word);
+        if (wordData == null || MeaningIndex.sharesMeaning(answerTokens, wordData.getMeaning())) {
+            return null;
+        }
+        return optionText(wordData, meaningFirst);
+    }
+
+    private static String optionText(WordData wordData, boolean meaningFirst) {
+        return meaningFirst ? wordData.getWord() : wordData.getMeaning();
+    }
+}
\ No newline at end of file
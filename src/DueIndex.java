@@ -0,0 +1,147 @@
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.*;
+
+/**
+ * 복습 예정일 색인
+ * 다음 복습 날짜별로 단어를 묶어 두어 오늘 복습할 단어를 전체 단어를 훑지 않고 찾음
+ * 날짜 묶음은 TreeMap, 묶음 안은 위치를 기억하는 번호 목록이라 추가/이동/삭제가 모두 O(log 날짜 수)
+ * 단어 객체 대신 단어장 안의 번호를 보관하고 결과를 돌려줄 때만 단어장에서 꺼냄 (단어 하나에 8바이트)
+ * 변경은 단어장 잠금 안에서만 하고, 조회도 단어장 잠금을 잡고 함 (번호가 중간에 옮겨지지 않도록)
+ */
+public class DueIndex {
+    private final WordBook wordBook;
+    private final TreeMap<Long, IntList> buckets = new TreeMap<>(); // 복습 날짜 -> 단어 번호들
+    private final IntList newWords = new IntList();                // 아직 복습하지 않은 단어
+    private int[] positions = new int[16];                         // 단어 번호 -> 묶음 안의 위치
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    private final ZoneRules rules = ZoneId.systemDefault().getRules();
+
+    DueIndex(WordBook wordBook) {
+        this.wordBook = wordBook;
+    }
+
+    // 단어 목록으로 만들기 (단어의 번호는 position)
+    DueIndex(WordBook wordBook, Collection<WordData> words) {
+        this(wordBook);
+        for (WordData wordData : words) {
+            add(wordData.position, wordData.getDueTime());
+        }
+    }
+
+    void add(int id, long dueTime) {
+        if (id >= positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(id + 1, positions.length * 2));
+        }
+        IntList bucket = bucket(dueTime, true);
+        positions[id] = bucket.size();
+        bucket.add(id);
+    }
+
+    // 마지막 단어를 빈 자리로 옮겨서 O(1)에 제거
+    void remove(int id, long dueTime) {
+        IntList bucket = bucket(dueTime, false);
+        if (bucket == null || id >= positions.length) {
+            return;
+        }
+        int position = positions[id];
+        if (position >= bucket.size() || bucket.get(position) != id) {
+            return;
+        }
+
+        int last = bucket.removeLast();
+        if (last != id) {
+            positions[last] = position;
+            bucket.set(position, last);
+        }
+        if (bucket.isEmpty() && bucket != newWords) {
+            buckets.remove(day(dueTime));
+        }
+    }
+
+    // 복습 시각이 바뀐 단어를 새 날짜로 옮김
+    void update(int id, long previousDueTime, long dueTime) {
+        remove(id, previousDueTime);
+        add(id, dueTime);
+    }
+
+    // 단어장에서 단어의 번호가 바뀜 (삭제된 자리로 마지막 단어를 옮길 때)
+    void move(int from, int to, long dueTime) {
+        IntList bucket = bucket(dueTime, false);
+        if (bucket == null || from >= positions.length) {
+            return;
+        }
+        int position = positions[from];
+        if (position < bucket.size() && bucket.get(position) == from) {
+            if (to >= positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(to + 1, positions.length * 2));
+            }
+            bucket.set(position, to);
+            positions[to] = position;
+        }
+    }
+
+    // now가 속한 날까지 복습할 단어 (예정일이 이른 순서, 최대 limit개)
+    public List<WordData> getDueWords(long now, int limit) {
+        synchronized (wordBook) {
+            List<WordData> due = new ArrayList<>();
+            for (IntList bucket : buckets.headMap(day(now), true).values()) {
+                for (int i = 0; i < bucket.size(); i++) {
+                    if (due.size() >= limit) return due;
+                    addWordData(due, bucket.get(i));
+                }
+            }
+            return due;
+        }
+    }
+
+    // now가 속한 날까지 복습할 단어 수
+    public int getDueCount(long now) {
+        synchronized (wordBook) {
+            int count = 0;
+            for (IntList bucket : buckets.headMap(day(now), true).values()) {
+                count += bucket.size();
+            }
+            return count;
+        }
+    }
+
+    // 아직 한 번도 복습하지 않은 단어 (최대 limit개)
+    public List<WordData> getNewWords(int limit) {
+        synchronized (wordBook) {
+            List<WordData> result = new ArrayList<>(Math.min(limit, newWords.size()));
+            for (int i = 0; i < newWords.size() && result.size() < limit; i++) {
+                addWordData(result, newWords.get(i));
+            }
+            return result;
+        }
+    }
+
+    // 학습자가 바뀌어 버려진 색인이면 번호가 범위를 벗어날 수 있으므로 건너뜀
+    private void addWordData(List<WordData> result, int id) {
+        if (id < wordBook.getWordCount()) {
+            result.add(wordBook.wordDataAt(id));
+        }
+    }
+
+    private IntList bucket(long dueTime, boolean create) {
+        if (dueTime == 0) {
+            return newWords;
+        }
+        Long day = day(dueTime);
+        IntList bucket = buckets.get(day);
+        if (bucket == null && create) {
+            bucket = new IntList();
+            buckets.put(day, bucket);
+        }
+        return bucket;
+    }
+
+    // 시각이 속한 날짜 (시스템 시간대 기준)
+    private long day(long time) {
+        long offsetMillis = rules.getOffset(Instant.ofEpochMilli(time)).getTotalSeconds() * 1000L;
+        return Math.floorDiv(time + offsetMillis, DAY_MILLIS);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import javax.management.ObjectName;
+
+/**
+ * 단어장 메모리 사용량 측정
+ * 같은 단어들을 WordBook(단어마다 WordData + 해시맵 항목)과 ColumnarWordBook(열 단위 배열)에 넣고
+ * GC 후 늘어난 힙 사용량으로 단어당 바이트를 비교 (단어 데이터, 그리고 색인을 하나씩 만들 때마다 늘어난 양)
+ * --histogram을 붙이면 측정이 끝난 뒤 클래스별 힙 사용량(jcmd GC.class_histogram과 같음) 상위 항목도 출력
+ * 사용법: java FootprintBenchmark [단어 수] [--histogram] (기본 1000000)
+ */
+public class FootprintBenchmark {
+    private static final int DEFAULT_SIZE = 1_000_000;
+    private static final int HISTOGRAM_LINES = 15;
+    private static final String[] STEPS = {"단어 데이터", "+ 정답률 색인", "+ 복습 색인", "+ 뜻 색인", "+ 검색 색인"};
+
+    private FootprintBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int size = DEFAULT_SIZE;
+        boolean histogram = false;
+        for (String arg : args) {
+            if (arg.equals("--histogram")) {
+                histogram = true;
+            } else {
+                size = Integer.parseInt(arg);
+            }
+        }
+
+        long base = usedHeap();
+        WordBook source = CodecBenchmark.createWordBook(size);
+        long sourceBytes = usedHeap() - base;
+        long[] wordBookBytes = measureIndexes(source);
+        wordBookBytes[0] = sourceBytes;
+
+        long[] columnarBytes = new long[STEPS.length];
+        base = usedHeap();
+        ColumnarWordBook columnar = ColumnarWordBook.copyOf(source);
+        columnarBytes[0] = usedHeap() - base;
+        System.arraycopy(measureIndexes(columnar), 1, columnarBytes, 1, STEPS.length - 1);
+
+        System.out.printf("단어 수: %d (단어당 바이트)%n", size);
+        System.out.printf("%-14s %12s %18s%n", "", "WordBook", "ColumnarWordBook");
+        long wordBookTotal = 0;
+        long columnarTotal = 0;
+        for (int i = 0; i < STEPS.length; i++) {
+            wordBookTotal += wordBookBytes[i];
+            columnarTotal += columnarBytes[i];
+            System.out.printf("%-14s %12.1f %18.1f%n", STEPS[i],
+                    (double) wordBookBytes[i] / size, (double) columnarBytes[i] / size);
+            if (i == 0 || i == 3 || i == STEPS.length - 1) {
+                System.out.printf("  %-12s %12.1f %18.1f   (%.1f배 작음)%n", "누적",
+                        (double) wordBookTotal / size, (double) columnarTotal / size,
+                        (double) wordBookTotal / columnarTotal);
+            }
+        }
+
+        if (histogram) {
+            printHistogram();
+        }
+        // 측정이 끝날 때까지 단어장이 수거되지 않도록
+        System.out.println("(" + source.getWordCount() + ", " + columnar.getWordCount() + ")");
+    }
+
+    // 색인을 STEPS 순서대로 하나씩 만들며 늘어난 힙 (0번은 비워 둠)
+    private static long[] measureIndexes(WordBook wordBook) throws InterruptedException {
+        long[] bytes = new long[STEPS.length];
+        Runnable[] builds = {
+                wordBook::getAccuracyIndex, wordBook::getDueIndex, wordBook::getMeaningIndex, wordBook::getSearchIndex
+        };
+        for (int i = 0; i < builds.length; i++) {
+            long base = usedHeap();
+            builds[i].run();
+            bytes[i + 1] = usedHeap() - base;
+        }
+        return bytes;
+    }
+
+    // 여러 번 GC를 요청해서 살아 있는 객체만 남긴 뒤의 힙 사용량
+    private static long usedHeap() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+
+    // HotSpot 진단 명령으로 클래스별 힙 사용량 출력 (지원하지 않는 JVM이면 생략)
+    private static void printHistogram() {
+        try {
+            String result = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                    new ObjectName("com.sun.management:type=DiagnosticCommand"), "gcClassHistogram",
+                    new Object[]{new String[0]}, new String[]{String[].class.getName()});
+            String[] lines = result.split("\n");
+            for (int i = 0; i < Math.min(lines.length, HISTOGRAM_LINES + 2); i++) {
+                System.out.println(lines[i]);
+            }
+        } catch (Exception e) {
+            System.err.println("클래스별 힙 사용량을 얻을 수 없습니다: " + e.getMessage());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+import java.util.Arrays;
+
+/**
+ * int 값 목록
+ * 색인이 단어 번호를 Integer로 감싸지 않고 보관할 때 사용 (ArrayList<Integer>보다 값 하나에 12~20바이트 적음)
+ * 잠금이 없으므로 쓰는 쪽(색인)이 단어장 잠금 안에서만 다룸
+ */
+class IntList {
+    private int[] values;
+    private int size;
+
+    IntList() {
+        this(4);
+    }
+
+    IntList(int capacity) {
+        values = new int[Math.max(1, capacity)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    void set(int index, int value) {
+        values[index] = value;
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    int removeLast() {
+        return values[--size];
+    }
+
+    int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // 마지막 값을 빈 자리로 옮겨서 제거 (순서는 지키지 않음, 없으면 false)
+    boolean removeValue(int value) {
+        int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        values[index] = values[--size];
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+import java.io.*;
+import java.util.*;
+import java.util.zip.CRC32C;
+
+/**
+ * 학습자 프로필
+ * 단어장별 학습 기록(StatisticsOverlay)을 모아 두며, 학습자가 풀어 본 단어의 기록만 저장하므로
+ * 읽는 시간과 파일 크기는 단어장 크기가 아니라 그 학습자의 학습량에 비례
+ *
+ * 형식: [매직][버전][저널 일련번호][이름][단어장 수]
+ *       ([단어장 이름][단어 수]([단어][출제 횟수][정답 횟수][난이도 계수][복습 간격][연속 횟수][다음 복습 시각])*)*[CRC]
+ */
+public class LearnerProfile {
+    public static final int MAGIC = 0x57504C50; // "WPLP"
+    public static final int VERSION = 1;
+
+    private final String name;
+    private final Map<String, StatisticsOverlay> overlays = new LinkedHashMap<>(); // 단어장 이름 -> 학습 기록
+    private long sequence; // 파일에 반영된 저널 일련번호
+
+    public LearnerProfile(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    synchronized long getSequence() {
+        return sequence;
+    }
+
+    // 단어장의 학습 기록 (없으면 빈 기록을 만듦)
+    public synchronized StatisticsOverlay getOverlay(String bookName) {
+        return overlays.computeIfAbsent(bookName, key -> new StatisticsOverlay(this));
+    }
+
+    // 단어장 이름이 바뀌면 기록도 새 이름으로 옮김 (바뀐 것이 있으면 true)
+    synchronized boolean renameBook(String oldName, String newName) {
+        StatisticsOverlay overlay = overlays.remove(oldName);
+        if (overlay == null) {
+            return false;
+        }
+        overlays.put(newName, overlay);
+        return true;
+    }
+
+    synchronized boolean removeBook(String bookName) {
+        return overlays.remove(bookName) != null;
+    }
+
+    // 기록이 있는 단어 수 (모든 단어장 합계)
+    public synchronized int getRecordedWordCount() {
+        int count = 0;
+        for (StatisticsOverlay overlay : overlays.values()) {
+            count += overlay.size();
+        }
+        return count;
+    }
+
+    public synchronized byte[] encode(long sequence) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sequence);
+            out.writeUTF(name);
+
+            List<Map.Entry<String, StatisticsOverlay>> nonEmpty = new ArrayList<>();
+            for (Map.Entry<String, StatisticsOverlay> entry : overlays.entrySet()) {
+                if (entry.getValue().size() > 0) {
+                    nonEmpty.add(entry);
+                }
+            }
+            out.writeInt(nonEmpty.size());
+            for (Map.Entry<String, StatisticsOverlay> entry : nonEmpty) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.toByteArray());
+            out.writeInt((int) crc.getValue());
+        }
+        return buffer.toByteArray();
+    }
+
+    public static LearnerProfile decode(byte[] data) throws IOException {
+        if (data.length < 4) {
+            throw new IOException("학습자 파일이 너무 짧습니다.");
+        }
+        int length = data.length - 4;
+        CRC32C crc = new CRC32C();
+        crc.update(data, 0, length);
+        int stored = ((data[length] & 0xFF) << 24) | ((data[length + 1] & 0xFF) << 16)
+                | ((data[length + 2] & 0xFF) << 8) | (data[length + 3] & 0xFF);
+        if ((int) crc.getValue() != stored) {
+            throw new IOException("체크섬이 일치하지 않습니다.");
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 0, length))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("학습자 파일 형식이 아닙니다.");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 학습자 파일 버전입니다: " + version);
+            }
+
+            long sequence = in.readLong();
+            LearnerProfile profile = new LearnerProfile(in.readUTF());
+            profile.sequence = sequence;
+            int bookCount = in.readInt();
+            for (int i = 0; i < bookCount; i++) {
+                String bookName = in.readUTF();
+                profile.overlays.put(bookName, StatisticsOverlay.readFrom(profile, in));
+            }
+            return profile;
+        } catch (EOFException e) {
+            throw new IOException("학습자 파일이 손상되었습니다.", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,517 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * 메모리 맵 파일 기반의 읽기 위주 단어장
+ * 수백만 개 단어의 사전도 단어마다 객체를 만들지 않고 필요한 단어만 읽어 옴
+ * 출제/정답 횟수와 복습 정보는 맵 영역에 바로 기록되며, 단어 추가/삭제/수정은 지원하지 않음
+ *
+ * 형식: [헤더 32바이트][항목 표: 단어 위치, 단어 길이, 뜻 위치, 뜻 길이]
+ *       [출제 횟수 열][정답 횟수 열][난이도 계수 열][복습 간격 열][연속 기억 횟수 열][복습 예정일 열(long)][문자열 영역]
+ * 항목은 단어의 UTF-8 바이트 순으로 정렬되어 있어 이진 탐색으로 찾음
+ * 버전 1 파일(복습 정보 열 없음)은 열 때 빈 복습 정보 열을 끼워 넣어 버전 2로 바꿈
+ */
+public class MappedWordBook extends WordBook {
+    private static final long serialVersionUID = 1L;
+    public static final int MAGIC = 0x57504D4D; // "WPMM"
+    public static final int VERSION = 2;
+    private static final int HEADER_SIZE = 32;
+    private static final int ENTRY_SIZE = 16;
+    private static final int COUNT_COLUMNS_SIZE = 8;   // 출제/정답 횟수 (단어당)
+    private static final int REVIEW_COLUMNS_SIZE = 20; // 난이도 계수, 간격, 연속 기억 횟수, 복습 예정일 (단어당)
+
+    private final transient MappedByteBuffer buffer;
+    private final int count;
+    private final int totalOffset;
+    private final int correctOffset;
+    private final int easeOffset;
+    private final int intervalOffset;
+    private final int repetitionsOffset;
+    private final int dueOffset;
+    private final int poolOffset;
+
+    private transient AccuracyIndex accuracyIndex;
+    private transient DueIndex dueIndex;
+
+    private MappedWordBook(String name, MappedByteBuffer buffer) throws IOException {
+        super(name);
+        this.buffer = buffer;
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("메모리 맵 단어장 형식이 아닙니다.");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 메모리 맵 단어장 버전입니다: " + version);
+        }
+
+        this.count = buffer.getInt(16);
+        this.totalOffset = HEADER_SIZE + count * ENTRY_SIZE;
+        this.correctOffset = totalOffset + count * 4;
+        this.easeOffset = correctOffset + count * 4;
+        this.intervalOffset = easeOffset + count * 4;
+        this.repetitionsOffset = intervalOffset + count * 4;
+        this.dueOffset = repetitionsOffset + count * 4;
+        this.poolOffset = dueOffset + count * 8;
+
+        // 횟수 열만 훑어서 통계 집계 (단어 객체는 만들지 않음)
+        WordBookStatistics statistics = getSharedStatistics();
+        for (int id = 0; id < count; id++) {
+            statistics.add(buffer.getInt(totalOffset + id * 4), buffer.getInt(correctOffset + id * 4));
+        }
+    }
+
+    // 파일을 메모리에 매핑해서 열기 (단어 내용은 읽지 않음)
+    public static MappedWordBook open(Path path, String name) throws IOException {
+        if (readVersion(path) == 1) {
+            upgradeVersion1(path);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            return new MappedWordBook(name, buffer);
+        }
+    }
+
+    // 파일에 기록된 저널 일련번호
+    public long getSequence() {
+        return buffer.getLong(8);
+    }
+
+    private static int readVersion(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            in.readInt();
+            return in.readInt();
+        }
+    }
+
+    // 버전 1 파일의 정답 횟수 열 뒤에 빈 복습 정보 열을 끼워 넣어 다시 씀 (문자열 위치는 영역 기준이라 그대로)
+    private static void upgradeVersion1(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".upgrade");
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if (in.read(header, 0) < HEADER_SIZE) {
+                throw new EOFException("메모리 맵 단어장 파일이 잘렸습니다.");
+            }
+            int size = header.getInt(16);
+            long columnsEnd = HEADER_SIZE + (long) size * (ENTRY_SIZE + COUNT_COLUMNS_SIZE);
+            if (in.size() + (long) size * REVIEW_COLUMNS_SIZE > Integer.MAX_VALUE) {
+                throw new IOException("메모리 맵 단어장은 2GB를 넘을 수 없습니다.");
+            }
+
+            header.putInt(4, VERSION).flip();
+            out.write(header);
+            transfer(in, HEADER_SIZE, columnsEnd - HEADER_SIZE, out);
+            ByteBuffer zeros = ByteBuffer.allocate(1 << 16);
+            for (long left = (long) size * REVIEW_COLUMNS_SIZE; left > 0; left -= zeros.limit()) {
+                zeros.clear().limit((int) Math.min(zeros.capacity(), left));
+                while (zeros.hasRemaining()) {
+                    out.write(zeros);
+                }
+            }
+            transfer(in, columnsEnd, in.size() - columnsEnd, out);
+            out.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void transfer(FileChannel in, long position, long length, FileChannel out) throws IOException {
+        while (length > 0) {
+            long moved = in.transferTo(position, length, out);
+            if (moved <= 0) {
+                throw new EOFException("메모리 맵 단어장 파일이 잘렸습니다.");
+            }
+            position += moved;
+            length -= moved;
+        }
+    }
+
+    // 단어 목록을 메모리 맵 형식으로 기록 (디스크 동기화까지 마침)
+    public static void write(Path path, Collection<WordData> words, long sequence) throws IOException {
+        int size = words.size();
+        byte[][] wordBytes = new byte[size][];
+        byte[][] meaningBytes = new byte[size][];
+        int[] totals = new int[size];
+        int[] corrects = new int[size];
+        int[] easeFactors = new int[size];
+        int[] intervals = new int[size];
+        int[] repetitions = new int[size];
+        long[] dueTimes = new long[size];
+
+        int i = 0;
+        for (WordData wordData : words) {
+            wordBytes[i] = wordData.getWord().getBytes(StandardCharsets.UTF_8);
+            meaningBytes[i] = wordData.getMeaning().getBytes(StandardCharsets.UTF_8);
+            totals[i] = wordData.getSharedTotalCount();
+            corrects[i] = wordData.getSharedCorrectCount();
+            easeFactors[i] = wordData.getSharedEaseFactor();
+            intervals[i] = wordData.getSharedInterval();
+            repetitions[i] = wordData.getSharedRepetitions();
+            dueTimes[i] = wordData.getSharedDueTime();
+            i++;
+        }
+
+        // 단어 바이트 순으로 정렬
+        Integer[] order = new Integer[size];
+        for (i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(wordBytes[a], wordBytes[b]));
+
+        FileOutputStream file = new FileOutputStream(path.toFile());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(sequence);
+            out.writeInt(size);
+            out.write(new byte[HEADER_SIZE - 20]);
+
+            // 항목 표 (문자열 영역 안의 위치)
+            long poolPosition = 0;
+            for (int id : order) {
+                out.writeInt((int) poolPosition);
+                out.writeInt(wordBytes[id].length);
+                poolPosition += wordBytes[id].length;
+                out.writeInt((int) poolPosition);
+                out.writeInt(meaningBytes[id].length);
+                poolPosition += meaningBytes[id].length;
+            }
+            if (HEADER_SIZE + (long) size * (ENTRY_SIZE + COUNT_COLUMNS_SIZE + REVIEW_COLUMNS_SIZE) + poolPosition
+                    > Integer.MAX_VALUE) {
+                throw new IOException("메모리 맵 단어장은 2GB를 넘을 수 없습니다.");
+            }
+
+            for (int id : order) {
+                out.writeInt(totals[id]);
+            }
+            for (int id : order) {
+                out.writeInt(corrects[id]);
+            }
+            for (int id : order) {
+                out.writeInt(easeFactors[id]);
+            }
+            for (int id : order) {
+                out.writeInt(intervals[id]);
+            }
+            for (int id : order) {
+                out.writeInt(repetitions[id]);
+            }
+            for (int id : order) {
+                out.writeLong(dueTimes[id]);
+            }
+            for (int id : order) {
+                out.write(wordBytes[id]);
+                out.write(meaningBytes[id]);
+            }
+            out.flush();
+            file.getFD().sync();
+        }
+    }
+
+    // 변경된 횟수와 복습 정보를 디스크에 반영
+    public void force() {
+        buffer.force();
+    }
+
+    // 출제/정답 횟수를 맵 영역에 바로 기록 (저널을 거치지 않음, 학습자가 선택되어 있으면 그 학습자의 기록에 저장)
+    @Override
+    void recordStatistics(WordData wordData, int totalDelta, int correctDelta) {
+        if (getOverlay() != null) {
+            super.recordStatistics(wordData, totalDelta, correctDelta);
+            return;
+        }
+        wordData.applyCounts(totalDelta, correctDelta);
+        int id = findId(wordData.getWord());
+        if (id >= 0) {
+            synchronized (this) {
+                int total;
+                int correct;
+                synchronized (buffer) {
+                    total = buffer.getInt(totalOffset + id * 4);
+                    correct = buffer.getInt(correctOffset + id * 4);
+                    getSharedStatistics().update(total, correct, totalDelta, correctDelta);
+                    buffer.putInt(totalOffset + id * 4, total + totalDelta);
+                    buffer.putInt(correctOffset + id * 4, correct + correctDelta);
+                }
+                if (accuracyIndex != null) {
+                    accuracyIndex.update(id, total, correct, total + totalDelta, correct + correctDelta);
+                }
+            }
+        }
+    }
+
+    // 학습자의 횟수를 바꾸고 (저널을 거쳐 호출됨) 정답률 색인에서 옮김
+    @Override
+    synchronized void applyCounts(WordData wordData, int totalDelta, int correctDelta) {
+        StatisticsOverlay overlay = getOverlay();
+        String word = wordData.getWord();
+        int total = overlay != null ? overlay.getTotalCount(word) : 0;
+        int correct = overlay != null ? overlay.getCorrectCount(word) : 0;
+        super.applyCounts(wordData, totalDelta, correctDelta);
+        int id = overlay != null && accuracyIndex != null ? findId(word) : -1;
+        if (id >= 0) {
+            accuracyIndex.update(id, total, correct, total + totalDelta, correct + correctDelta);
+        }
+    }
+
+    // 복습 정보를 맵 영역에 바로 기록 (저널을 거치지 않음, 학습자가 선택되어 있으면 그 학습자의 기록에 저장)
+    @Override
+    void recordReview(WordData wordData, int easeFactor, int interval, int repetitions, long dueTime) {
+        if (getOverlay() != null) {
+            super.recordReview(wordData, easeFactor, interval, repetitions, dueTime);
+            return;
+        }
+        applyReview(wordData, easeFactor, interval, repetitions, dueTime);
+    }
+
+    // 복습 정보를 기록에 남기고 복습 예정일 색인에서 새 날짜로 옮김
+    @Override
+    synchronized void applyReview(WordData wordData, int easeFactor, int interval, int repetitions, long dueTime) {
+        String word = wordData.getWord();
+        int id = findId(word);
+        if (id < 0) {
+            return;
+        }
+        StatisticsOverlay overlay = getOverlay();
+        long previousDueTime;
+        if (overlay != null) {
+            previousDueTime = overlay.getDueTime(word);
+            overlay.applyReview(word, easeFactor, interval, repetitions, dueTime);
+        } else {
+            synchronized (buffer) {
+                previousDueTime = buffer.getLong(dueOffset + id * 8);
+                buffer.putInt(easeOffset + id * 4, easeFactor);
+                buffer.putInt(intervalOffset + id * 4, interval);
+                buffer.putInt(repetitionsOffset + id * 4, repetitions);
+                buffer.putLong(dueOffset + id * 8, dueTime);
+            }
+            wordData.applyReview(easeFactor, interval, repetitions, dueTime);
+        }
+        if (dueIndex != null) {
+            dueIndex.update(id, previousDueTime, dueTime);
+        }
+    }
+
+    // 학습자가 바뀌면 정답률/복습 색인은 필요할 때 다시 만듦
+    @Override
+    synchronized void setOverlay(StatisticsOverlay overlay) {
+        if (overlay != getOverlay()) {
+            super.setOverlay(overlay);
+            accuracyIndex = null;
+            dueIndex = null;
+        }
+    }
+
+    // 복습 예정일 색인 (처음 호출할 때 한 번만 만들고 이후에는 복습할 때마다 갱신)
+    // 복습 예정일 열만 훑음 (학습자가 선택되어 있으면 모든 단어를 새 단어로 넣은 뒤 그 학습자가 복습한 단어만 옮김)
+    @Override
+    public synchronized DueIndex getDueIndex() {
+        if (dueIndex == null) {
+            DueIndex index = new DueIndex(this);
+            StatisticsOverlay overlay = getOverlay();
+            for (int id = 0; id < count; id++) {
+                index.add(id, overlay != null ? 0L : buffer.getLong(dueOffset + id * 8));
+            }
+            if (overlay != null) {
+                overlay.forEach((word, total, correct, easeFactor, interval, repetitions, dueTime) -> {
+                    int id = dueTime != 0 ? findId(word) : -1;
+                    if (id >= 0) {
+                        index.update(id, 0L, dueTime);
+                    }
+                });
+            }
+            dueIndex = index;
+        }
+        return dueIndex;
+    }
+
+    // 정답률 순 색인 (처음 호출할 때 한 번만 만들고 이후에는 횟수가 바뀔 때마다 갱신)
+    // 횟수 열만 훑음 (학습자가 선택되어 있으면 그 학습자가 풀어 본 단어만 훑음)
+    @Override
+    public synchronized AccuracyIndex getAccuracyIndex() {
+        if (accuracyIndex == null) {
+            AccuracyIndex index = new AccuracyIndex(this);
+            StatisticsOverlay overlay = getOverlay();
+            if (overlay != null) {
+                overlay.forEach((word, total, correct, easeFactor, interval, repetitions, dueTime) -> {
+                    int id = total > 0 ? findId(word) : -1;
+                    if (id >= 0) {
+                        index.add(id, total, correct);
+                    }
+                });
+            } else {
+                for (int id = 0; id < count; id++) {
+                    index.add(id, buffer.getInt(totalOffset + id * 4), buffer.getInt(correctOffset + id * 4));
+                }
+            }
+            accuracyIndex = index;
+        }
+        return accuracyIndex;
+    }
+
+    @Override
+    public boolean addWord(String word, String meaning) {
+        return false; // 읽기 위주 단어장
+    }
+
+    @Override
+    public int addWords(Map<String, String> entries) {
+        return 0;
+    }
+
+    @Override
+    public boolean removeWord(String word) {
+        return false;
+    }
+
+    @Override
+    public boolean updateWord(String word, String newMeaning) {
+        return false;
+    }
+
+    @Override
+    public WordData getWordData(String word) {
+        if (word == null) return null;
+        int id = findId(word);
+        return id >= 0 ? wordDataAt(id) : null;
+    }
+
+    @Override
+    public Set<String> getAllWords() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new IdIterator<String>() {
+                    @Override
+                    String get(int id) {
+                        return wordAt(id);
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return o instanceof String && findId((String) o) >= 0;
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    // 필요한 단어만 그때그때 만들어 돌려주는 보기(view)
+    @Override
+    public Collection<WordData> getAllWordData() {
+        return new AbstractCollection<WordData>() {
+            @Override
+            public Iterator<WordData> iterator() {
+                return new IdIterator<WordData>() {
+                    @Override
+                    WordData get(int id) {
+                        return wordDataAt(id);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    @Override
+    String wordAt(int index) {
+        return stringAt(entryOffset(index), entryOffset(index) + 4);
+    }
+
+    @Override
+    String meaningAt(int index) {
+        return stringAt(entryOffset(index) + 8, entryOffset(index) + 12);
+    }
+
+    @Override
+    public int getWordCount() {
+        return count;
+    }
+
+    @Override
+    WordData wordDataAt(int id) {
+        int entry = entryOffset(id);
+        WordData wordData = new WordData(stringAt(entry, entry + 4), stringAt(entry + 8, entry + 12));
+        wordData.applyCounts(buffer.getInt(totalOffset + id * 4), buffer.getInt(correctOffset + id * 4));
+        wordData.applyReview(buffer.getInt(easeOffset + id * 4), buffer.getInt(intervalOffset + id * 4),
+                buffer.getInt(repetitionsOffset + id * 4), buffer.getLong(dueOffset + id * 8));
+        wordData.setWordBook(this);
+        wordData.position = id;
+        return wordData;
+    }
+
+    // 정렬된 항목 표에서 이진 탐색
+    private int findId(String word) {
+        byte[] key = word.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareWord(mid, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compareWord(int id, byte[] key) {
+        int entry = entryOffset(id);
+        int start = poolOffset + buffer.getInt(entry);
+        int length = buffer.getInt(entry + 4);
+        int limit = Math.min(length, key.length);
+        for (int i = 0; i < limit; i++) {
+            int cmp = Byte.toUnsignedInt(buffer.get(start + i)) - Byte.toUnsignedInt(key[i]);
+            if (cmp != 0) return cmp;
+        }
+        return length - key.length;
+    }
+
+    private String stringAt(int offsetPosition, int lengthPosition) {
+        int start = poolOffset + buffer.getInt(offsetPosition);
+        byte[] bytes = new byte[buffer.getInt(lengthPosition)];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int entryOffset(int id) {
+        return HEADER_SIZE + id * ENTRY_SIZE;
+    }
+
+    // 번호 순서대로 도는 반복자
+    private abstract class IdIterator<T> implements Iterator<T> {
+        private int next = 0;
+
+        abstract T get(int id);
+
+        @Override
+        public boolean hasNext() {
+            return next < count;
+        }
+
+        @Override
+        public T next() {
+            if (next >= count) throw new NoSuchElementException();
+            return get(next++);
+        }
+    }
+}
\ No newline at end of file
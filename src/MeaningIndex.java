@@ -0,0 +1,190 @@
+import java.util.*;
+
+/**
+ * 뜻 -> 단어 색인
+ * 뜻을 쉼표 등으로 나눈 항목마다 그 뜻을 가진 단어 목록을 두어, 같은 뜻의 단어를 전체를 훑지 않고 O(1)로 찾음
+ * ("사과, 사죄"는 "사과"와 "사죄" 두 항목으로 나뉨)
+ * 항목 문자열이나 단어 객체는 보관하지 않고 (항목 해시, 단어 번호) 쌍만 개방 주소법 표(long 배열)에 넣음
+ * 해시가 같은 번호를 찾은 뒤 단어장에서 그 단어의 뜻을 읽어 항목이 정말 있는지 확인 (항목 하나에 16~32바이트)
+ * 변경은 단어장 잠금 안에서만 하고, 조회도 단어장 잠금을 잡고 함 (번호가 중간에 옮겨지지 않도록)
+ */
+public class MeaningIndex {
+    private final WordBook wordBook;
+    private long[] slots = new long[64]; // 항목 해시 << 32 | (단어 번호 + 1), 0이면 빈 칸 (절반 이하만 채움)
+    private int size;
+
+    MeaningIndex(WordBook wordBook) {
+        this.wordBook = wordBook;
+    }
+
+    // 단어 목록으로 만들기 (단어의 번호는 position)
+    MeaningIndex(WordBook wordBook, Collection<WordData> words) {
+        this(wordBook);
+        for (WordData wordData : words) {
+            add(wordData.position, wordData.getMeaning());
+        }
+    }
+
+    void add(int id, String meaning) {
+        for (String token : tokensOf(meaning)) {
+            if ((size + 1) * 2 > slots.length) {
+                resize();
+            }
+            insert(entry(token.hashCode(), id));
+            size++;
+        }
+    }
+
+    // 뜻이 바뀌었으면 바뀌기 전 뜻으로 호출
+    void remove(int id, String meaning) {
+        for (String token : tokensOf(meaning)) {
+            int slot = find(entry(token.hashCode(), id));
+            if (slot >= 0) {
+                delete(slot);
+                size--;
+            }
+        }
+    }
+
+    // 단어장에서 단어의 번호가 바뀜 (삭제된 자리로 마지막 단어를 옮길 때)
+    void move(int from, int to, String meaning) {
+        for (String token : tokensOf(meaning)) {
+            int slot = find(entry(token.hashCode(), from));
+            if (slot >= 0) {
+                slots[slot] = entry(token.hashCode(), to); // 해시가 같으므로 칸은 그대로
+            }
+        }
+    }
+
+    // 뜻 항목 하나를 가진 단어들
+    public List<WordData> getWords(String token) {
+        synchronized (wordBook) {
+            List<WordData> result = new ArrayList<>();
+            for (int id : ids(normalize(token), new LinkedHashSet<>())) {
+                result.add(wordBook.wordDataAt(id));
+            }
+            return result;
+        }
+    }
+
+    // 뜻 항목 중 하나라도 같은 단어들 (중복 뜻 확인용)
+    public Set<WordData> getWordsSharingMeaning(String meaning) {
+        synchronized (wordBook) {
+            Set<Integer> ids = new LinkedHashSet<>();
+            for (String token : tokensOf(meaning)) {
+                ids(token, ids);
+            }
+            Set<WordData> result = new LinkedHashSet<>();
+            for (int id : ids) {
+                result.add(wordBook.wordDataAt(id));
+            }
+            return result;
+        }
+    }
+
+    // 항목 해시가 같은 번호 중 뜻에 그 항목이 정말 있는 단어만 ids에 더함
+    private Set<Integer> ids(String token, Set<Integer> ids) {
+        int hash = token.hashCode();
+        int mask = slots.length - 1;
+        int count = wordBook.getWordCount();
+        for (int slot = home(hash, mask); slots[slot] != 0; slot = (slot + 1) & mask) {
+            int id = (int) slots[slot] - 1;
+            if ((int) (slots[slot] >>> 32) == hash && id < count && !ids.contains(id)
+                    && tokensOf(wordBook.meaningAt(id)).contains(token)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static long entry(int hash, int id) {
+        return (long) hash << 32 | (id + 1L);
+    }
+
+    private static int home(int hash, int mask) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void insert(long entry) {
+        int mask = slots.length - 1;
+        int slot = home((int) (entry >>> 32), mask);
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = entry;
+    }
+
+    private int find(long entry) {
+        int mask = slots.length - 1;
+        for (int slot = home((int) (entry >>> 32), mask); slots[slot] != 0; slot = (slot + 1) & mask) {
+            if (slots[slot] == entry) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    // 빈 칸을 만들고 뒤따르는 묶음을 당겨서 탐사가 끊기지 않게 함 (ColumnarWordBook의 표와 같은 방식)
+    private void delete(int hole) {
+        int mask = slots.length - 1;
+        slots[hole] = 0;
+        for (int slot = (hole + 1) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int home = home((int) (slots[slot] >>> 32), mask);
+            // home이 (hole, slot] 구간 밖이면 hole로 당겨도 찾을 수 있음
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                slots[hole] = slots[slot];
+                slots[slot] = 0;
+                hole = slot;
+            }
+        }
+    }
+
+    private void resize() {
+        long[] old = slots;
+        slots = new long[old.length * 2];
+        for (long entry : old) {
+            if (entry != 0) {
+                insert(entry);
+            }
+        }
+    }
+
+    // 두 뜻이 같은 항목을 하나라도 가지는지
+    public static boolean sharesMeaning(String meaning, String other) {
+        return sharesMeaning(tokensOf(meaning), other);
+    }
+
+    // 미리 나눈 뜻 항목 중 하나라도 other에 있는지 (같은 뜻과 여러 번 비교할 때)
+    static boolean sharesMeaning(List<String> tokens, String other) {
+        for (String token : tokensOf(other)) {
+            if (tokens.contains(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 뜻을 쉼표, 세미콜론, 슬래시로 나눈 항목 (앞뒤 공백 제거, 소문자, 중복 제거)
+    static List<String> tokensOf(String meaning) {
+        List<String> result = new ArrayList<>(2);
+        int start = 0;
+        for (int i = 0; i <= meaning.length(); i++) {
+            if (i == meaning.length() || isSeparator(meaning.charAt(i))) {
+                String token = normalize(meaning.substring(start, i));
+                if (!token.isEmpty() && !result.contains(token)) {
+                    result.add(token);
+                }
+                start = i + 1;
+            }
+        }
+        return result;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ',' || c == ';' || c == '/';
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쓰기 지연(write-behind) 저장 큐
+ * 저장 요청을 모아 두었다가 백그라운드 스레드에서 한 번에 저장
+ */
+public class PersistenceQueue {
+    private final Runnable writer;            // 실제 저장 작업
+    private final long flushIntervalMillis;   // 요청 후 저장까지 최대 대기 시간
+    private final int maxPendingRequests;     // 이 개수만큼 쌓이면 즉시 저장
+
+    private final Object lock = new Object();
+    private final Object saveLock = new Object();
+    private final Thread writerThread;
+    private int pendingRequests;              // 마지막 저장 이후 쌓인 요청 수
+    private boolean running;
+
+    // 통계용 카운터
+    private final AtomicLong requestedCount = new AtomicLong();
+    private final AtomicLong performedCount = new AtomicLong();
+
+    public PersistenceQueue(Runnable writer, long flushIntervalMillis, int maxPendingRequests) {
+        this.writer = writer;
+        this.flushIntervalMillis = Math.max(0, flushIntervalMillis);
+        this.maxPendingRequests = Math.max(1, maxPendingRequests);
+        this.pendingRequests = 0;
+        this.running = true;
+
+        this.writerThread = new Thread(this::runWriter, "WordPlay-Persistence");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    // 저장 요청 (즉시 반환)
+    public void requestSave() {
+        requestedCount.incrementAndGet();
+        synchronized (lock) {
+            pendingRequests++;
+            if (pendingRequests == 1 || pendingRequests >= maxPendingRequests) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    // 쌓인 요청이 있으면 호출한 스레드에서 바로 저장
+    public void flush() {
+        synchronized (saveLock) {
+            synchronized (lock) {
+                if (pendingRequests == 0) {
+                    return;
+                }
+                pendingRequests = 0;
+            }
+
+            try {
+                writer.run();
+                performedCount.incrementAndGet();
+            } catch (RuntimeException e) {
+                System.err.println("백그라운드 저장 중 오류 발생: " + e);
+                // 다음 주기에 다시 시도
+                synchronized (lock) {
+                    pendingRequests++;
+                }
+            }
+        }
+    }
+
+    // 백그라운드 스레드 종료 후 남은 요청 저장
+    public void shutdown() {
+        synchronized (lock) {
+            running = false;
+            lock.notifyAll();
+        }
+
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void runWriter() {
+        while (true) {
+            synchronized (lock) {
+                try {
+                    // 요청이 들어올 때까지 대기
+                    while (running && pendingRequests == 0) {
+                        lock.wait();
+                    }
+
+                    // 주기가 끝나거나 요청이 충분히 쌓일 때까지 모으기
+                    long deadline = System.currentTimeMillis() + flushIntervalMillis;
+                    long remaining = flushIntervalMillis;
+                    while (running && pendingRequests < maxPendingRequests && remaining > 0) {
+                        lock.wait(remaining);
+                        remaining = deadline - System.currentTimeMillis();
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                if (!running) {
+                    return; // 남은 요청은 shutdown()에서 저장
+                }
+            }
+            flush();
+        }
+    }
+
+    // 지금까지 들어온 저장 요청 수
+    public long getRequestedCount() {
+        return requestedCount.get();
+    }
+
+    // 실제로 수행된 저장 수
+    public long getPerformedCount() {
+        return performedCount.get();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 정답률 기반 출제 순서 결정기
+ * 정답률이 낮은 단어일수록 자주, 방금 출제한 단어는 잠시 드물게 나오도록 가중치를 두고 뽑음
+ * 가중치는 펜윅 트리(Fenwick tree)에 보관하여 추출과 갱신이 모두 O(log n)
+ *
+ * 만든 시점의 단어장 단어를 대상으로 하며, 이후 삭제된 단어는 갱신 시 가중치 0이 됨
+ */
+public class QuestionScheduler {
+    private static final double NEW_WORD_WEIGHT = 3.0;  // 한 번도 출제되지 않은 단어
+    private static final double MAX_WEIGHT = 5.0;       // 정답률 0%
+    private static final double MIN_WEIGHT = 0.5;       // 정답률 100%
+    private static final double COOLDOWN_FACTOR = 0.1;  // 최근 출제된 단어의 가중치 비율
+    private static final int COOLDOWN_SIZE = 5;         // 최근 출제로 취급하는 문제 수
+
+    private final WordBook wordBook;
+    private final String[] words;
+    private final Map<String, Integer> ids;
+    private final double[] weights;  // 단어별 현재 가중치
+    private final double[] tree;     // 펜윅 트리 (1번부터 사용)
+    private final ArrayDeque<Integer> cooldown = new ArrayDeque<>();
+    private final int cooldownSize;
+
+    public QuestionScheduler(WordBook wordBook) {
+        this.wordBook = wordBook;
+        Collection<WordData> allWordData = wordBook.getAllWordData();
+        int size = allWordData.size();
+        this.words = new String[size];
+        this.ids = new HashMap<>(size * 2);
+        this.weights = new double[size];
+        this.tree = new double[size + 1];
+        this.cooldownSize = Math.min(COOLDOWN_SIZE, size - 1);
+
+        int id = 0;
+        for (WordData wordData : allWordData) {
+            words[id] = wordData.getWord();
+            ids.put(words[id], id);
+            weights[id] = baseWeight(wordData);
+            tree[id + 1] = weights[id];
+            id++;
+        }
+
+        // 선형 시간에 트리 구성
+        for (int i = 1; i <= size; i++) {
+            int parent = i + (i & -i);
+            if (parent <= size) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    // 다음 문제로 낼 단어 (낼 단어가 없으면 null)
+    public String next() {
+        int id = draw();
+        if (id < 0) return null;
+        markAsked(id);
+        return words[id];
+    }
+
+    // 서로 다른 단어 최대 k개를 가중치에 따라 뽑음
+    public List<String> next(int k) {
+        List<Integer> picked = new ArrayList<>(Math.min(k, words.length));
+        while (picked.size() < k) {
+            int id = draw();
+            if (id < 0) break;
+            picked.add(id);
+            setWeight(id, 0.0); // 같은 단어가 다시 뽑히지 않도록 잠시 제외
+        }
+
+        List<String> result = new ArrayList<>(picked.size());
+        for (int id : picked) {
+            setWeight(id, baseWeight(wordBook.getWordData(words[id])));
+            markAsked(id);
+            result.add(words[id]);
+        }
+        return result;
+    }
+
+    // 답안 기록 후 호출 - 바뀐 정답률을 가중치에 반영
+    public void update(String word) {
+        Integer id = ids.get(word);
+        if (id == null) return;
+
+        double weight = baseWeight(wordBook.getWordData(word));
+        setWeight(id, cooldown.contains(id) ? weight * COOLDOWN_FACTOR : weight);
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    private static double baseWeight(WordData wordData) {
+        if (wordData == null) {
+            return 0.0; // 삭제된 단어
+        }
+        if (wordData.getTotalCount() == 0) {
+            return NEW_WORD_WEIGHT;
+        }
+        return MIN_WEIGHT + (MAX_WEIGHT - MIN_WEIGHT) * (100.0 - wordData.getAccuracy()) / 100.0;
+    }
+
+    // 방금 출제한 단어는 가중치를 낮추고, 오래된 단어는 원래 가중치로 되돌림
+    private void markAsked(int id) {
+        if (cooldownSize <= 0) return;
+
+        cooldown.remove(id);
+        cooldown.addLast(id);
+        setWeight(id, baseWeight(wordBook.getWordData(words[id])) * COOLDOWN_FACTOR);
+        while (cooldown.size() > cooldownSize) {
+            int released = cooldown.removeFirst();
+            setWeight(released, baseWeight(wordBook.getWordData(words[released])));
+        }
+    }
+
+    // 가중치 합 안의 임의 지점이 속한 단어 번호 (가중치 합이 0이면 -1)
+    private int draw() {
+        double total = prefixSum(words.length);
+        if (total <= 0.0) return -1;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < 8; attempt++) {
+            int id = find(random.nextDouble() * total);
+            // 부동소수점 오차로 가중치 0인 칸에 걸리면 다시 뽑음
+            if (id < words.length && weights[id] > 0.0) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    private void setWeight(int id, double weight) {
+        double delta = weight - weights[id];
+        weights[id] = weight;
+        for (int i = id + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private double prefixSum(int count) {
+        double sum = 0.0;
+        for (int i = count; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    // 누적 가중치가 target을 처음 넘는 단어 번호
+    private int find(double target) {
+        int position = 0;
+        for (int step = Integer.highestOneBit(Math.max(words.length, 1)); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next < tree.length && tree[next] <= target) {
+                position = next;
+                target -= tree[next];
+            }
+        }
+        return position;
+    }
+}
\ No newline at end of file
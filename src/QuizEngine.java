@@ -0,0 +1,153 @@
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 화면 없이 동작하는 퀴즈 진행기
+ * 출제할 단어 고르기, 선택지 만들기, 정답 확인과 점수 계산을 맡고 QuizGameGUI는 결과만 표시
+ * 일반 모드는 QuestionScheduler(정답률 가중치), 복습 모드는 ReviewQueue(복습 일정)로 단어를 고름
+ */
+public class QuizEngine {
+    public static final int OPTION_COUNT = 4;
+
+    // 문제 하나
+    public static class Question {
+        public final int number;           // 1부터 시작
+        public final WordData wordData;
+        public final String prompt;         // 뜻 또는 단어
+        public final List<String> options;  // 섞인 선택지 (OPTION_COUNT개)
+        public final int correctIndex;
+
+        Question(int number, WordData wordData, String prompt, List<String> options, int correctIndex) {
+            this.number = number;
+            this.wordData = wordData;
+            this.prompt = prompt;
+            this.options = options;
+            this.correctIndex = correctIndex;
+        }
+
+        public String getCorrectAnswer() {
+            return options.get(correctIndex);
+        }
+    }
+
+    private final WordBook wordBook;
+    private final DistractorEngine distractorEngine;
+    private final QuestionScheduler scheduler;
+    private final ReviewQueue reviewQueue; // 복습 모드일 때만 사용
+    private final boolean meaningFirst;    // true: 뜻 보고 단어 맞히기, false: 단어 보고 뜻 맞히기
+    private final int totalQuestions;
+    private int currentQuestionIndex = -1;
+    private int correctAnswers;
+    private Question currentQuestion;
+    private boolean answered;
+
+    public QuizEngine(WordBook wordBook, boolean meaningFirst) {
+        this(wordBook, null, meaningFirst);
+    }
+
+    // 복습 모드: 복습 큐의 단어만 출제하고 결과를 복습 일정에 반영
+    public QuizEngine(WordBook wordBook, ReviewQueue reviewQueue, boolean meaningFirst) {
+        this.wordBook = wordBook;
+        this.distractorEngine = new DistractorEngine(wordBook);
+        this.reviewQueue = reviewQueue;
+        this.meaningFirst = meaningFirst;
+        if (reviewQueue != null) {
+            this.scheduler = null;
+            this.totalQuestions = reviewQueue.size();
+        } else {
+            // 정답률이 낮은 단어를 더 자주 출제 (문제 수는 단어 수와 같음)
+            this.scheduler = new QuestionScheduler(wordBook);
+            this.totalQuestions = scheduler.size();
+        }
+    }
+
+    // 다음 문제 (더 없으면 null)
+    public Question nextQuestion() {
+        if (currentQuestionIndex + 1 >= totalQuestions) {
+            return null;
+        }
+
+        String word = reviewQueue != null ? reviewQueue.next() : scheduler.next();
+        WordData wordData = word != null ? wordBook.getWordData(word) : null;
+        if (wordData == null) {
+            return null;
+        }
+        currentQuestionIndex++;
+        wordData.increaseTotal();
+
+        currentQuestion = createQuestion(currentQuestionIndex + 1, wordData, distractorEngine, meaningFirst);
+        answered = false;
+        return currentQuestion;
+    }
+
+    // 단어 하나로 문제 만들기 (횟수는 바꾸지 않음)
+    static Question createQuestion(int number, WordData wordData, DistractorEngine distractorEngine,
+                                   boolean meaningFirst) {
+        String prompt = meaningFirst ? wordData.getMeaning() : wordData.getWord();
+        String correctAnswer = meaningFirst ? wordData.getWord() : wordData.getMeaning();
+
+        // 정답과 오답 3개 (정답 및 서로 중복 없음), 모자라면 더미 선택지
+        List<String> options = new ArrayList<>(OPTION_COUNT);
+        options.add(correctAnswer);
+        options.addAll(distractorEngine.pick(wordData, OPTION_COUNT - 1, meaningFirst));
+        while (options.size() < OPTION_COUNT) {
+            options.add("선택지 " + options.size());
+        }
+        Collections.shuffle(options, ThreadLocalRandom.current());
+
+        return new Question(number, wordData, prompt, Collections.unmodifiableList(options),
+                options.indexOf(correctAnswer));
+    }
+
+    // 현재 문제에 답함 (정답 여부를 돌려주고 출제 가중치 또는 복습 일정에 반영)
+    public boolean answer(int optionIndex) {
+        if (currentQuestion == null || answered) {
+            throw new IllegalStateException("답할 문제가 없습니다.");
+        }
+        answered = true;
+
+        boolean correct = optionIndex == currentQuestion.correctIndex;
+        WordData wordData = currentQuestion.wordData;
+        if (correct) {
+            wordData.increaseCorrect();
+            correctAnswers++;
+        }
+
+        if (reviewQueue != null) {
+            reviewQueue.answer(wordData.getWord(), correct ? 4 : 1);
+        } else {
+            scheduler.update(wordData.getWord());
+        }
+        return correct;
+    }
+
+    public Question getCurrentQuestion() {
+        return currentQuestion;
+    }
+
+    public boolean isLastQuestion() {
+        return currentQuestionIndex >= totalQuestions - 1;
+    }
+
+    public boolean isMeaningFirst() {
+        return meaningFirst;
+    }
+
+    public int getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    // 지금까지 낸 문제 수
+    public int getAskedCount() {
+        return currentQuestionIndex + 1;
+    }
+
+    public int getCorrectAnswers() {
+        return correctAnswers;
+    }
+
+    // 전체 문제 수 대비 정답률 (%)
+    public double getAccuracy() {
+        return totalQuestions > 0 ? (double) correctAnswers / totalQuestions * 100 : 0.0;
+    }
+}
\ No newline at end of file
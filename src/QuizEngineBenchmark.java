@@ -0,0 +1,89 @@
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 퀴즈 진행 벤치마크
+ * 화면 없는 QuizEngine으로 문제 받기 + 답하기를 반복해서 초당 문제 수, 문제당 할당량, 지연 시간 분포를 단어장 크기별로 측정
+ * 퀴즈가 끝나면 새 퀴즈를 시작하며, 새 퀴즈 준비(출제 순서 만들기) 시간은 따로 표시
+ * 사용법: java QuizEngineBenchmark [단어 수...] (기본 1000 100000 1000000)
+ */
+public class QuizEngineBenchmark {
+    private static final int[] DEFAULT_SIZES = {1_000, 100_000, 1_000_000};
+    private static final long WARMUP_NANOS = 1_000_000_000L;
+    private static final long MEASURE_NANOS = 3_000_000_000L;
+    private static final int MAX_SAMPLES = 1 << 20; // 지연 시간은 이만큼만 보관 (넘으면 앞에서부터 덮어씀)
+
+    private QuizEngineBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0) {
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+
+        System.out.printf("%10s %12s %14s %10s %10s %10s %14s%n",
+                "단어 수", "퀴즈 준비(ms)", "초당 문제", "p50(µs)", "p99(µs)", "최대(µs)", "문제당 할당(B)");
+        long[] samples = new long[MAX_SAMPLES];
+        for (int size : sizes) {
+            WordBook wordBook = CodecBenchmark.createWordBook(size);
+            run(wordBook, samples, WARMUP_NANOS);
+            Result result = run(wordBook, samples, MEASURE_NANOS);
+
+            int sampled = (int) Math.min(result.questions, MAX_SAMPLES);
+            Arrays.sort(samples, 0, sampled);
+            System.out.printf("%10d %12.1f %14.0f %10.2f %10.2f %10.2f %14s%n", size,
+                    result.setupNanos / 1e6 / result.sessions,
+                    result.questions / (result.questionNanos / 1e9),
+                    samples[sampled / 2] / 1e3, samples[(int) (sampled * 0.99)] / 1e3, samples[sampled - 1] / 1e3,
+                    result.allocated < 0 ? "-" : String.valueOf(result.allocated / result.questions));
+        }
+    }
+
+    private static class Result {
+        long questions;
+        long questionNanos; // 문제 받기 + 답하기에 걸린 시간 합
+        long sessions;
+        long setupNanos;    // 새 퀴즈 준비에 걸린 시간 합
+        long allocated;     // 문제 받기 + 답하기 중에 할당한 바이트 (측정할 수 없으면 -1)
+    }
+
+    private static Result run(WordBook wordBook, long[] samples, long nanos) {
+        Result result = new Result();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long deadline = System.nanoTime() + nanos;
+        QuizEngine engine = null;
+        long allocatedBefore = DistractorBenchmark.allocatedBytes();
+        long setupAllocated = 0;
+
+        while (System.nanoTime() < deadline || result.questions == 0) {
+            if (engine == null) {
+                long allocatedStart = DistractorBenchmark.allocatedBytes();
+                long start = System.nanoTime();
+                engine = new QuizEngine(wordBook, random.nextBoolean());
+                result.setupNanos += System.nanoTime() - start;
+                setupAllocated += DistractorBenchmark.allocatedBytes() - allocatedStart;
+                result.sessions++;
+            }
+
+            long start = System.nanoTime();
+            QuizEngine.Question question = engine.nextQuestion();
+            if (question == null) {
+                engine = null;
+                continue;
+            }
+            engine.answer(random.nextInt(QuizEngine.OPTION_COUNT));
+            long elapsed = System.nanoTime() - start;
+
+            samples[(int) (result.questions % MAX_SAMPLES)] = elapsed;
+            result.questionNanos += elapsed;
+            result.questions++;
+        }
+        result.allocated = allocatedBefore < 0 ? -1
+                : DistractorBenchmark.allocatedBytes() - allocatedBefore - setupAllocated;
+        return result;
+    }
+}
\ No newline at end of file
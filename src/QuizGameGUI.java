@@ -2,16 +2,15 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.util.*;
 
 /**
  * GUI 기반 퀴즈 게임
+ * 문제 진행과 채점은 QuizEngine이 맡고 여기서는 화면 표시만 담당
  */
 public class QuizGameGUI extends JFrame {
     private WordBook wordBook;
-    private java.util.List<String> wordList;
-    private int currentQuestionIndex;
-    private int correctAnswers;
+    private ReviewQueue reviewQueue; // 복습 모드일 때만 사용
+    private QuizEngine engine;
     private boolean meaningFirst; // true: 뜻 보고 단어 맞히기, false: 단어 보고 뜻 맞히기
 
     // GUI 컴포넌트
@@ -23,11 +22,13 @@ public class QuizGameGUI extends JFrame {
     private JButton finishButton;
 
     public QuizGameGUI(WordBook wordBook) {
+        this(wordBook, null);
+    }
+
+    // 복습 모드: 복습 큐의 단어만 출제하고 결과를 복습 일정에 반영
+    public QuizGameGUI(WordBook wordBook, ReviewQueue reviewQueue) {
         this.wordBook = wordBook;
-        this.wordList = new ArrayList<>(wordBook.getAllWords());
-        Collections.shuffle(this.wordList);
-        this.currentQuestionIndex = 0;
-        this.correctAnswers = 0;
+        this.reviewQueue = reviewQueue;
 
         initializeGUI();
     }
@@ -88,6 +89,7 @@ public class QuizGameGUI extends JFrame {
 
         // 모드 선택 다이얼로그
         selectMode();
+        engine = new QuizEngine(wordBook, reviewQueue, meaningFirst);
 
         setSize(600, 500);
         setLocationRelativeTo(null);
@@ -107,30 +109,29 @@ public class QuizGameGUI extends JFrame {
     }
 
     private void showQuestion() {
-        if (currentQuestionIndex >= wordList.size()) {
+        QuizEngine.Question question = engine.nextQuestion();
+        if (question == null) {
             showFinalResult();
             return;
         }
 
         // 진행률 업데이트
         progressLabel.setText(String.format("문제 %d / %d",
-                currentQuestionIndex + 1, wordList.size()));
-
-        String currentWord = wordList.get(currentQuestionIndex);
-        WordData currentWordData = wordBook.getWordData(currentWord);
-        currentWordData.increaseTotal();
+                question.number, engine.getTotalQuestions()));
 
         // 문제 표시
         if (meaningFirst) {
             questionLabel.setText("<html><center>다음 뜻에 해당하는 단어는?<br><br><b>" +
-                    currentWordData.getMeaning() + "</b></center></html>");
+                    question.prompt + "</b></center></html>");
         } else {
             questionLabel.setText("<html><center>다음 단어의 뜻은?<br><br><b>" +
-                    currentWordData.getWord() + "</b></center></html>");
+                    question.prompt + "</b></center></html>");
         }
 
-        // 선택지 생성
-        generateOptions(currentWordData);
+        // 선택지 표시
+        for (int i = 0; i < QuizEngine.OPTION_COUNT; i++) {
+            optionButtons[i].setText(question.options.get(i));
+        }
 
         // 버튼 상태 초기화
         for (JButton button : optionButtons) {
@@ -143,46 +144,6 @@ public class QuizGameGUI extends JFrame {
         finishButton.setVisible(false);
     }
 
-    private void generateOptions(WordData correctWordData) {
-        java.util.List<String> options = new ArrayList<>();
-
-        // 정답 추가
-        if (meaningFirst) {
-            options.add(correctWordData.getWord());
-        } else {
-            options.add(correctWordData.getMeaning());
-        }
-
-        // 오답 3개 추가
-        java.util.List<WordData> allWords = new ArrayList<>(wordBook.getAllWordData());
-        allWords.remove(correctWordData);
-        Collections.shuffle(allWords);
-
-        int wrongAnswersAdded = 0;
-        for (WordData wordData : allWords) {
-            if (wrongAnswersAdded >= 3) break;
-
-            String option = meaningFirst ? wordData.getWord() : wordData.getMeaning();
-            if (!options.contains(option)) {
-                options.add(option);
-                wrongAnswersAdded++;
-            }
-        }
-
-        // 선택지가 4개 미만인 경우 더미 데이터 추가
-        while (options.size() < 4) {
-            options.add("선택지 " + options.size());
-        }
-
-        // 선택지 섞기
-        Collections.shuffle(options);
-
-        // 버튼에 설정
-        for (int i = 0; i < 4; i++) {
-            optionButtons[i].setText(options.get(i));
-        }
-    }
-
     private class OptionButtonListener implements ActionListener {
         private int optionIndex;
 
@@ -192,12 +153,8 @@ public class QuizGameGUI extends JFrame {
 
         @Override
         public void actionPerformed(ActionEvent e) {
-            String selectedAnswer = optionButtons[optionIndex].getText();
-            String currentWord = wordList.get(currentQuestionIndex);
-            WordData currentWordData = wordBook.getWordData(currentWord);
-
-            String correctAnswer = meaningFirst ? currentWordData.getWord() : currentWordData.getMeaning();
-            boolean isCorrect = selectedAnswer.equals(correctAnswer);
+            QuizEngine.Question question = engine.getCurrentQuestion();
+            boolean isCorrect = engine.answer(optionIndex);
 
             // 모든 버튼 비활성화
             for (JButton button : optionButtons) {
@@ -209,23 +166,16 @@ public class QuizGameGUI extends JFrame {
                 optionButtons[optionIndex].setBackground(Color.GREEN);
                 resultLabel.setText("정답입니다!");
                 resultLabel.setForeground(Color.BLUE);
-                currentWordData.increaseCorrect();
-                correctAnswers++;
             } else {
                 optionButtons[optionIndex].setBackground(Color.RED);
                 // 정답 버튼 표시
-                for (int i = 0; i < 4; i++) {
-                    if (optionButtons[i].getText().equals(correctAnswer)) {
-                        optionButtons[i].setBackground(Color.GREEN);
-                        break;
-                    }
-                }
-                resultLabel.setText("틀렸습니다. 정답: " + correctAnswer);
+                optionButtons[question.correctIndex].setBackground(Color.GREEN);
+                resultLabel.setText("틀렸습니다. 정답: " + question.getCorrectAnswer());
                 resultLabel.setForeground(Color.RED);
             }
 
             // 다음 버튼 또는 완료 버튼 표시
-            if (currentQuestionIndex < wordList.size() - 1) {
+            if (!engine.isLastQuestion()) {
                 nextButton.setVisible(true);
             } else {
                 finishButton.setVisible(true);
@@ -234,12 +184,11 @@ public class QuizGameGUI extends JFrame {
     }
 
     private void nextQuestion() {
-        currentQuestionIndex++;
         showQuestion();
     }
 
     private void showFinalResult() {
-        double accuracy = (double) correctAnswers / wordList.size() * 100;
+        double accuracy = engine.getAccuracy();
 
         String message = String.format(
                 "퀴즈 완료!\n\n" +
@@ -247,7 +196,7 @@ public class QuizGameGUI extends JFrame {
                         "정답 수: %d개\n" +
                         "정답률: %.1f%%\n\n" +
                         "수고하셨습니다!",
-                wordList.size(), correctAnswers, accuracy
+                engine.getTotalQuestions(), engine.getCorrectAnswers(), accuracy
         );
 
         JOptionPane.showMessageDialog(this, message, "퀴즈 결과", JOptionPane.INFORMATION_MESSAGE);
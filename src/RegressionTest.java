@@ -0,0 +1,283 @@
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.file.*;
+import java.util.*;
+import javax.management.ObjectName;
+
+/**
+ * 회귀 테스트
+ * 고친 문제가 다시 생기지 않는지 하나씩 확인하고 결과를 출력
+ * 사용법: java RegressionTest (실패하면 종료 코드 1)
+ */
+public class RegressionTest {
+    private static final List<String> failures = new ArrayList<>();
+
+    private RegressionTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Files.createTempDirectory("wordplay-test");
+        try {
+            run("메모리 맵 단어장 퀴즈가 단어 객체를 남기지 않음", () -> mappedQuizKeepsNoWordData(dir));
+            run("메모리 맵 단어장 복습 정보가 다시 열어도 남음", () -> mappedReviewsSurviveRestart(dir));
+            run("edit 도중 저장해도 되돌린 변경이 파일에 남지 않음", () -> rolledBackEditIsNotSaved(dir));
+            run("저널이 손상된 기록과 잘못된 길이에서 멈춤", () -> journalStopsAtCorruptRecord(dir));
+            run("저널 정리 중에 덧붙인 기록을 잃지 않음", () -> journalCompactionKeepsConcurrentAppends(dir));
+            run("단어가 삭제되어도 표의 선택이 다른 단어로 옮겨 가지 않음", RegressionTest::selectionSurvivesSwapRemove);
+            run("내보낸 CSV의 여러 줄 뜻을 그대로 가져옴", RegressionTest::exportedCsvImportsMultilineMeanings);
+        } finally {
+            deleteRecursively(dir);
+        }
+        System.out.println(failures.isEmpty() ? "통과" : "실패 " + failures.size() + "건");
+        System.exit(failures.isEmpty() ? 0 : 1);
+    }
+
+    private interface Check {
+        void run() throws Exception;
+    }
+
+    private static void run(String name, Check check) {
+        try {
+            check.run();
+            System.out.println("[통과] " + name);
+        } catch (Exception | AssertionError e) {
+            failures.add(name);
+            System.out.println("[실패] " + name + ": " + e);
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    // 큰 메모리 맵 단어장에서 문제를 내도 단어마다 WordData가 만들어져 남지 않아야 함 (뜻 색인 등)
+    private static void mappedQuizKeepsNoWordData(Path dir) throws Exception {
+        int size = 200_000;
+        Path path = dir.resolve("mapped.wpm");
+        MappedWordBook.write(path, CodecBenchmark.createWordBook(size).getAllWordData(), 0);
+        MappedWordBook wordBook = MappedWordBook.open(path, "mapped");
+
+        long before = liveInstances("WordData");
+        QuizEngine engine = new QuizEngine(wordBook, false);
+        for (int i = 0; i < 100; i++) {
+            QuizEngine.Question question = engine.nextQuestion();
+            check(question != null && question.options.size() == QuizEngine.OPTION_COUNT, "문제를 만들지 못함");
+            engine.answer(i % QuizEngine.OPTION_COUNT);
+        }
+        long kept = liveInstances("WordData") - before;
+        check(kept < size / 100, "남은 WordData " + kept + "개");
+        check(engine.getCurrentQuestion() != null && wordBook.getWordCount() == size, "단어장이 그대로여야 함");
+    }
+
+    // 변환할 때 있던 복습 정보와 변환 뒤 복습한 정보가 모두 파일에 남아 다시 열어도 그대로여야 함
+    private static void mappedReviewsSurviveRestart(Path dir) throws Exception {
+        WordBookStorage storage = new WordBookStorage(dir.resolve("storage").toString());
+        WordBook source = new WordBook("mapped");
+        source.addWord("apple", "사과");
+        source.addWord("banana", "바나나");
+        source.addWord("cherry", "체리");
+        long now = System.currentTimeMillis();
+        source.getWordData("apple").review(5, now);
+        source.getWordData("apple").review(4, now);
+        WordData converted = source.getWordData("apple");
+
+        MappedWordBook mapped = storage.writeMappedShard(0, source, 0);
+        mapped.getDueIndex(); // 색인이 있어도 파일에 기록되어야 함
+        mapped.getWordData("cherry").review(3, now);
+        WordData reviewed = mapped.getWordData("cherry");
+        mapped.force();
+
+        WordBook reopened = storage.readShard(0, "mapped").wordBook;
+        check(reopened instanceof MappedWordBook, "메모리 맵 단어장으로 열려야 함");
+        check(sameReview(reopened.getWordData("apple"), converted), "변환 전 복습 정보가 사라짐");
+        check(sameReview(reopened.getWordData("cherry"), reviewed), "변환 뒤 복습 정보가 사라짐");
+        check(reviewed.getRepetitions() == 1 && reviewed.getDueTime() > now, "복습 정보가 기록되지 않음");
+        check(reopened.getWordData("banana").getDueTime() == 0, "복습하지 않은 단어는 새 단어여야 함");
+        check(reopened.getDueIndex().getDueCount(Long.MAX_VALUE) == 2, "복습 예정일 색인이 파일과 다름");
+    }
+
+    // edit 도중에 저장 스레드가 돌고 edit가 예외로 되돌려져도, 다시 열었을 때 edit 전 상태여야 함
+    private static void rolledBackEditIsNotSaved(Path dir) throws Exception {
+        File base = Files.createDirectories(dir.resolve("manager")).toFile();
+        WordBookManager manager = new WordBookManager(base, 60_000, Integer.MAX_VALUE); // 저장은 flush로만
+        manager.createWordBook("book");
+        manager.getWordBook("book").addWord("keep", "남음");
+        manager.flush();
+        WordBookStorage storage = new WordBookStorage(new File(base, "wordbooks").getPath());
+        List<Set<String>> savedDuringEdit = new ArrayList<>();
+
+        try {
+            manager.edit("book", book -> {
+                book.addWord("half1", "반");
+                book.removeWord("keep");
+                // 다른 변경의 저장 요청으로 저장 스레드가 edit 도중에 돎
+                Thread saver = new Thread(() -> {
+                    manager.saveData();
+                    manager.flush();
+                });
+                saver.start();
+                try {
+                    saver.join();
+                    savedDuringEdit.add(storage.readShard(storage.readIndex().entries.get("book").id, "book")
+                            .wordBook.getAllWords());
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+                throw new IllegalStateException("edit 도중 오류");
+            });
+            check(false, "edit가 예외를 던져야 함");
+        } catch (IllegalStateException expected) {
+            // 되돌려짐
+        }
+        check(savedDuringEdit.get(0).equals(Collections.singleton("keep")),
+                "edit 도중 저장된 단어: " + savedDuringEdit.get(0));
+        manager.flush();
+        manager.shutdown();
+
+        WordBookManager reopened = new WordBookManager(base, 60_000, Integer.MAX_VALUE);
+        try {
+            check(reopened.getWordBook("book").getAllWords().equals(Collections.singleton("keep")),
+                    "저장된 단어: " + reopened.getWordBook("book").getAllWords());
+        } finally {
+            reopened.shutdown();
+        }
+    }
+
+    // CRC가 맞지 않는 기록과 남은 크기보다 큰 길이는 끊긴 기록으로 보고 잘라낸 뒤 이어서 기록해야 함
+    private static void journalStopsAtCorruptRecord(Path dir) throws Exception {
+        Path path = dir.resolve("corrupt.journal");
+        StatisticsJournal journal = new StatisticsJournal(path.toString());
+        for (int i = 0; i < 3; i++) {
+            journal.append("book", null, "word" + i, 1, 1);
+        }
+        journal.close();
+
+        byte[] data = Files.readAllBytes(path);
+        data[data.length - 10] ^= 0x40; // 마지막 기록의 단어 부분
+        Files.write(path, data);
+        journal = new StatisticsJournal(path.toString());
+        check(journal.readEntries().size() == 2 && journal.getRecordCount() == 2, "손상된 기록이 남음");
+        journal.append("book", null, "word3", 1, 0);
+        journal.close();
+        long cleanSize = Files.size(path);
+
+        try (OutputStream out = Files.newOutputStream(path, StandardOpenOption.APPEND)) {
+            out.write(new byte[]{0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xF0, 1, 2, 3});
+        }
+        journal = new StatisticsJournal(path.toString());
+        List<StatisticsJournal.Entry> entries = journal.readEntries();
+        journal.close();
+        check(entries.size() == 3 && entries.get(2).word.equals("word3"), "기록 " + entries.size() + "건");
+        check(Files.size(path) == cleanSize, "잘린 기록을 잘라내지 않음");
+    }
+
+    // 정리하는 동안 다른 스레드가 덧붙인 기록도 정리된 저널에 남아야 함
+    private static void journalCompactionKeepsConcurrentAppends(Path dir) throws Exception {
+        StatisticsJournal journal = new StatisticsJournal(dir.resolve("compact.journal").toString());
+        for (int i = 0; i < 20_000; i++) {
+            journal.append("book", null, "word" + i, 1, 0);
+        }
+        long snapshot = journal.getLastSequence() / 2;
+
+        int appendCount = 2_000;
+        Thread appender = new Thread(() -> {
+            try {
+                for (int i = 0; i < appendCount; i++) {
+                    journal.append("book", "learner", "late" + i, 1, 1);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        appender.start();
+        journal.compact(snapshot);
+        appender.join();
+        journal.compact(snapshot); // 정리 뒤에 덧붙인 기록은 두 번째 정리에서도 남아야 함
+
+        long expected = journal.getLastSequence() - snapshot;
+        List<StatisticsJournal.Entry> entries = journal.readEntries();
+        journal.close();
+        check(entries.size() == expected && journal.getRecordCount() == expected,
+                "남은 기록 " + entries.size() + "건 (기대값 " + expected + ")");
+        for (int i = 0; i < entries.size(); i++) {
+            check(entries.get(i).sequence == snapshot + 1 + i, "일련번호가 빠짐: " + entries.get(i).sequence);
+        }
+    }
+
+    // 단어를 지우면 마지막 단어가 그 번호로 옮겨 오지만, 선택은 선택한 단어에 남아야 함
+    private static void selectionSurvivesSwapRemove() {
+        WordBook wordBook = new WordBook("table");
+        int[] rows = new int[5];
+        for (int i = 0; i < rows.length; i++) {
+            wordBook.addWord("w" + i, "뜻" + i);
+            wordBook.getWordData("w" + i).increaseTotal(); // 정답률 0%인 취약 단어
+            rows[i] = i;
+        }
+        WordTableModel model = new WordTableModel(wordBook, true);
+        model.clear();
+        model.appendRows(rows);
+        model.setValueAt(true, 1, 0);
+        check(Boolean.TRUE.equals(model.getValueAt(1, 0)), "선택되지 않음");
+
+        wordBook.removeWord("w1"); // w4가 1번으로 옮겨 옴
+        check(Boolean.FALSE.equals(model.getValueAt(1, 0)), "옮겨 온 단어가 선택된 것으로 보임");
+        check(model.getSelectedWords().equals(Collections.singletonList("w1")), "선택: " + model.getSelectedWords());
+
+        model.setAllSelected(true);
+        check(model.getSelectedWords().size() == 5, "전체 선택: " + model.getSelectedWords());
+        model.selectWords(Collections.singletonList(wordBook.getWordData("w2")));
+        check(model.getSelectedWords().equals(Collections.singletonList("w2")), "선택: " + model.getSelectedWords());
+    }
+
+    // 내보내기가 따옴표로 감싼 줄바꿈/쉼표/따옴표를 한 기록으로 읽고, 거부된 줄 번호는 파일의 줄 번호
+    private static void exportedCsvImportsMultilineMeanings() throws Exception {
+        WordBook source = new WordBook("export");
+        source.addWord("apple", "사과\n(과일)");
+        source.addWord("say", "말하다, \"say\"\n\n둘째 뜻");
+        source.addWord("plain", "평범한");
+        StringWriter csv = new StringWriter();
+        new StatisticsExporter(source, StatisticsExporter.Format.CSV).export(csv);
+
+        WordBook target = new WordBook("import");
+        WordImporter.Result result = new WordImporter(target)
+                .importLines(new BufferedReader(new StringReader(csv + "broken,\"닫히지 않음\n")));
+        for (String word : Arrays.asList("apple", "say", "plain")) {
+            WordData wordData = target.getWordData(word);
+            check(wordData != null && wordData.getMeaning().equals(source.getWordData(word).getMeaning()),
+                    word + "의 뜻: " + (wordData == null ? null : wordData.getMeaning()));
+        }
+        check(result.getAddedCount() == 3 && result.getRejectedCount() == 1,
+                "추가 " + result.getAddedCount() + ", 거부 " + result.getRejectedCount());
+        long lines = csv.toString().split("\n", -1).length; // 머리글 포함 줄 수 + 1 = 덧붙인 줄의 번호
+        check(result.getRejectedLines().get(0).lineNumber == lines, "거부된 줄: " + result.getRejectedLines());
+    }
+
+    private static boolean sameReview(WordData a, WordData b) {
+        return a.getEaseFactor() == b.getEaseFactor() && a.getInterval() == b.getInterval()
+                && a.getRepetitions() == b.getRepetitions() && a.getDueTime() == b.getDueTime();
+    }
+
+    // GC 후 살아 있는 클래스 인스턴스 수 (HotSpot 진단 명령, jcmd GC.class_histogram과 같음)
+    static long liveInstances(String className) throws Exception {
+        String histogram = (String) ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName("com.sun.management:type=DiagnosticCommand"), "gcClassHistogram",
+                new Object[]{new String[0]}, new String[]{String[].class.getName()});
+        for (String line : histogram.split("\n")) {
+            String[] columns = line.trim().split("\\s+");
+            if (columns.length >= 4 && columns[3].equals(className)) {
+                return Long.parseLong(columns[1]);
+            }
+        }
+        return 0;
+    }
+
+    private static void deleteRecursively(Path dir) throws Exception {
+        try (java.util.stream.Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+import java.util.*;
+
+/**
+ * 간격 반복(SM-2) 복습 큐
+ * 오늘 복습할 단어와 아직 복습하지 않은 새 단어 일부로 이번 복습 목록을 만듦
+ */
+public class ReviewQueue {
+    public static final int DEFAULT_DUE_LIMIT = 200;   // 한 번에 복습할 최대 단어 수
+    public static final int DEFAULT_NEW_WORDS = 20;    // 한 번에 새로 익힐 단어 수
+
+    private final WordBook wordBook;
+    private final ArrayDeque<String> queue = new ArrayDeque<>();
+
+    public ReviewQueue(WordBook wordBook) {
+        this(wordBook, DEFAULT_DUE_LIMIT, DEFAULT_NEW_WORDS);
+    }
+
+    public ReviewQueue(WordBook wordBook, int dueLimit, int newWordLimit) {
+        this.wordBook = wordBook;
+        DueIndex dueIndex = wordBook.getDueIndex();
+        for (WordData wordData : dueIndex.getDueWords(System.currentTimeMillis(), dueLimit)) {
+            queue.add(wordData.getWord());
+        }
+        for (WordData wordData : dueIndex.getNewWords(newWordLimit)) {
+            queue.add(wordData.getWord());
+        }
+    }
+
+    // 다음 복습 단어 (다 끝났으면 null)
+    public String next() {
+        return queue.pollFirst();
+    }
+
+    // 복습 결과 기록 (quality: 0 ~ 5, 3 이상이면 기억한 것으로 봄)
+    public void answer(String word, int quality) {
+        WordData wordData = wordBook.getWordData(word);
+        if (wordData != null) {
+            wordData.review(quality, System.currentTimeMillis());
+        }
+    }
+
+    // 남은 단어 수
+    public int size() {
+        return queue.size();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 서버 모드(WordPlayServer) 부하 테스트 클라이언트
+ * 실행 중인 서버에 임시 단어장을 만들고, 여러 클라이언트가 정해진 시간 동안 "문제 받기 -> 답 제출"을 반복한 뒤
+ * 초당 답안 수와 한 번 주고받는 데 걸린 시간 분포를 출력 (끝나면 임시 단어장은 삭제)
+ * 사용법: java ServerLoadTest [서버 주소] [클라이언트 수] [초] [단어 수]
+ *         (기본 http://127.0.0.1:8080 32 10 1000, 서버는 java WordPlay --server로 먼저 실행)
+ */
+public class ServerLoadTest {
+    private static final Pattern QUESTION_ID = Pattern.compile("\"id\":(\\d+)");
+    private static final int MAX_SAMPLES_PER_CLIENT = 1 << 18;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient client;
+    private final String baseUrl;
+
+    private ServerLoadTest(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1) // 내장 HttpServer는 HTTP/1.1만 지원
+                .connectTimeout(TIMEOUT)
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://127.0.0.1:" + WordPlayServer.DEFAULT_PORT;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int wordCount = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+
+        ServerLoadTest test = new ServerLoadTest(baseUrl);
+        String book = "loadtest" + System.currentTimeMillis();
+        try {
+            test.prepare(book, wordCount);
+        } catch (IOException e) {
+            System.err.println("서버에 연결할 수 없습니다: " + baseUrl + " (" + e.getMessage() + ")");
+            System.exit(1);
+            return;
+        }
+
+        int exitCode = 0;
+        try {
+            exitCode = test.run(book, clients, seconds);
+        } finally {
+            test.send("DELETE", "/books/" + book, null);
+        }
+        System.exit(exitCode);
+    }
+
+    // 임시 단어장과 단어 만들기
+    private void prepare(String book, int wordCount) throws IOException, InterruptedException {
+        expect(send("POST", "/books", "{\"name\":\"" + book + "\"}"), 201);
+        for (int i = 0; i < wordCount; i++) {
+            expect(send("POST", "/books/" + book + "/words",
+                    "{\"word\":\"word" + i + "\",\"meaning\":\"뜻" + i + "\"}"), 201);
+        }
+    }
+
+    private int run(String book, int clients, int seconds) throws InterruptedException {
+        AtomicLong answers = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long[][] samples = new long[clients][MAX_SAMPLES_PER_CLIENT];
+        int[] sampleCounts = new int[clients];
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        long start = System.nanoTime();
+        for (int c = 0; c < clients; c++) {
+            int clientIndex = c;
+            pool.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    long begin = System.nanoTime();
+                    try {
+                        HttpResponse<String> question = send("POST", "/books/" + book + "/questions",
+                                random.nextBoolean() ? "{\"mode\":\"meaning\"}" : "{\"mode\":\"word\"}");
+                        Matcher matcher = QUESTION_ID.matcher(question.body());
+                        if (question.statusCode() != 200 || !matcher.find()) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        HttpResponse<String> answer = send("POST", "/questions/" + matcher.group(1) + "/answer",
+                                "{\"option\":" + random.nextInt(QuizEngine.OPTION_COUNT) + "}");
+                        if (answer.statusCode() != 200) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                    } catch (IOException e) {
+                        errors.incrementAndGet();
+                        continue;
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    answers.incrementAndGet();
+                    samples[clientIndex][sampleCounts[clientIndex]++ % MAX_SAMPLES_PER_CLIENT] = System.nanoTime() - begin;
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(seconds + TIMEOUT.getSeconds() * 2, TimeUnit.SECONDS);
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        long[] merged = new long[0];
+        for (int c = 0; c < clients; c++) {
+            int count = Math.min(sampleCounts[c], MAX_SAMPLES_PER_CLIENT);
+            int offset = merged.length;
+            merged = Arrays.copyOf(merged, offset + count);
+            System.arraycopy(samples[c], 0, merged, offset, count);
+        }
+        Arrays.sort(merged);
+
+        System.out.printf("클라이언트 %d개, %.1f초: 답안 %d개 (초당 %.0f개), 오류 %d개%n",
+                clients, elapsed, answers.get(), answers.get() / elapsed, errors.get());
+        if (merged.length > 0) {
+            System.out.printf("문제 받기 + 답 제출 지연 시간: p50 %.2fms, p99 %.2fms, 최대 %.2fms%n",
+                    merged[merged.length / 2] / 1e6, merged[(int) (merged.length * 0.99)] / 1e6,
+                    merged[merged.length - 1] / 1e6);
+        }
+        return errors.get() == 0 ? 0 : 1;
+    }
+
+    private HttpResponse<String> send(String method, String path, String body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+        if (body != null) {
+            request.header("Content-Type", "application/json; charset=utf-8");
+        }
+        request.method(method, body != null
+                ? HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8)
+                : HttpRequest.BodyPublishers.noBody());
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+    private static void expect(HttpResponse<String> response, int status) throws IOException {
+        if (response.statusCode() != status) {
+            throw new IOException("HTTP " + response.statusCode() + " " + response.body());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,310 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.IntConsumer;
+
+/**
+ * 학습 통계 내보내기
+ * 표나 리포트 문자열을 거치지 않고 단어장에서 바로 읽어 버퍼를 통해 파일에 씀 (TXT, CSV, JSON Lines)
+ * GUI 없이도 사용 가능: java StatisticsExporter <단어장 이름> <파일> [txt|csv|jsonl]
+ */
+public class StatisticsExporter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int PROGRESS_STEP = 4096; // 이만큼 쓸 때마다 진행률 알림
+
+    public enum Format {
+        TXT("txt", "텍스트 파일"),
+        CSV("csv", "CSV 파일"),
+        JSONL("jsonl", "JSON Lines 파일");
+
+        private final String extension;
+        private final String description;
+
+        Format(String extension, String description) {
+            this.extension = extension;
+            this.description = description;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        // 확장자로 형식 찾기 (없으면 null)
+        public static Format fromFileName(String fileName) {
+            String lower = fileName.toLowerCase();
+            for (Format format : values()) {
+                if (lower.endsWith("." + format.extension)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final WordBook wordBook;
+    private final Format format;
+    private double weakThreshold = 50.0; // TXT 리포트의 취약 단어 기준 정답률 (%)
+    private IntConsumer progressListener = percent -> { };
+
+    public StatisticsExporter(WordBook wordBook, Format format) {
+        this.wordBook = wordBook;
+        this.format = format;
+    }
+
+    public StatisticsExporter setWeakThreshold(double weakThreshold) {
+        this.weakThreshold = weakThreshold;
+        return this;
+    }
+
+    // 진행률(0~100)을 받을 리스너 (내보내는 스레드에서 호출됨)
+    public StatisticsExporter setProgressListener(IntConsumer progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
+    // 임시 파일에 모두 쓴 뒤 교체하므로 도중에 실패하거나 취소되어도 기존 파일은 그대로 남음
+    public void export(File file) throws IOException {
+        File temp = new File(file.getAbsolutePath() + ".tmp");
+        try {
+            try (Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(new FileOutputStream(temp), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                export(writer);
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            temp.delete();
+        }
+    }
+
+    // 스레드가 인터럽트되면 InterruptedIOException으로 중단
+    public void export(Writer writer) throws IOException {
+        switch (format) {
+            case CSV:
+                writer.write("word,meaning,totalCount,correctCount,accuracy,status\n");
+                writeWords(writer, 0, 1);
+                break;
+            case JSONL:
+                writeWords(writer, 0, 1);
+                break;
+            default:
+                writeReport(writer);
+                break;
+        }
+        progressListener.accept(100);
+    }
+
+    private void writeReport(Writer writer) throws IOException {
+        WordBookStatistics statistics = wordBook.getStatistics().snapshot();
+        String line50 = "=".repeat(50) + "\n";
+        String line80 = "-".repeat(80) + "\n";
+
+        // 헤더 정보
+        writer.write(line50);
+        writer.write("WordPlay 학습 통계 리포트\n");
+        writer.write(line50);
+        writer.write("단어장: " + wordBook.getName() + "\n");
+        writer.write("생성일시: " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH시 mm분")) + "\n");
+        writer.write(line50 + "\n");
+
+        // 전체 통계 요약
+        writer.write("【 전체 통계 요약 】\n");
+        writer.write("-".repeat(30) + "\n");
+        writer.write("총 단어 수: " + statistics.getWordCount() + "개\n");
+        writer.write(String.format("평균 정답률: %.1f%%\n", statistics.getAverageAccuracy()));
+        writer.write("총 출제 횟수: " + statistics.getTotalQuestions() + "회\n\n");
+
+        // 단어별 상세 통계
+        writer.write("【 단어별 상세 통계 】\n");
+        writer.write(line80);
+        writer.write(String.format("%-15s %-20s %8s %8s %10s %8s\n", "단어", "뜻", "출제횟수", "정답횟수", "정답률", "상태"));
+        writer.write(line80);
+        writeWords(writer, 0, 2);
+
+        // 취약 단어 목록 (취약 단어가 있을 때만, 같은 단어장을 한 번 더 훑음)
+        if (!wordBook.getAccuracyIndex().getWordsBelow(weakThreshold, 1).isEmpty()) {
+            writer.write(String.format("\n\n【 취약 단어 목록 (정답률 %.0f%% 미만) 】\n", weakThreshold));
+            writer.write(line80);
+            writer.write(String.format("%-15s %-20s %8s %8s %10s\n", "단어", "뜻", "출제횟수", "정답횟수", "정답률"));
+            writer.write(line80);
+            writeWords(writer, 1, 2);
+        }
+
+        // 푸터
+        writer.write("\n" + line50);
+        writer.write("WordPlay 학습 통계 리포트 끝\n");
+        writer.write("=".repeat(50));
+    }
+
+    // 단어장을 처음부터 훑으며 한 줄씩 씀 (pass/passes는 진행률 계산용)
+    private void writeWords(Writer writer, int pass, int passes) throws IOException {
+        boolean weakOnly = format == Format.TXT && pass == 1;
+        int count = wordBook.getWordCount();
+        for (int index = 0; index < count; index++) {
+            WordData wordData;
+            try {
+                wordData = wordBook.wordDataAt(index);
+            } catch (IndexOutOfBoundsException e) {
+                break; // 내보내는 도중 단어가 삭제됨
+            }
+
+            if (weakOnly) {
+                if (wordData.getTotalCount() > 0 && wordData.getAccuracy() < weakThreshold) {
+                    writeTextRow(writer, wordData);
+                    writer.write("%\n");
+                }
+            } else {
+                writeWord(writer, wordData);
+            }
+
+            if (index % PROGRESS_STEP == PROGRESS_STEP - 1) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedIOException("내보내기가 취소되었습니다.");
+                }
+                progressListener.accept((int) (((long) pass * count + index) * 100 / ((long) passes * count)));
+            }
+        }
+    }
+
+    private void writeWord(Writer writer, WordData wordData) throws IOException {
+        String status = WordTableModel.getStatus(wordData);
+        switch (format) {
+            case CSV:
+                writeCsv(writer, wordData.getWord());
+                writer.write(',');
+                writeCsv(writer, wordData.getMeaning());
+                writer.write("," + wordData.getTotalCount() + "," + wordData.getCorrectCount() + ","
+                        + formatAccuracy(wordData) + "," + status + "\n");
+                break;
+            case JSONL:
+                writer.write("{\"word\":");
+                writeJson(writer, wordData.getWord());
+                writer.write(",\"meaning\":");
+                writeJson(writer, wordData.getMeaning());
+                writer.write(",\"totalCount\":" + wordData.getTotalCount()
+                        + ",\"correctCount\":" + wordData.getCorrectCount()
+                        + ",\"accuracy\":" + formatAccuracy(wordData)
+                        + ",\"status\":\"" + status + "\"}\n");
+                break;
+            default:
+                writeTextRow(writer, wordData);
+                writer.write("% ");
+                pad(writer, status, 8, false);
+                writer.write('\n');
+                break;
+        }
+    }
+
+    // "%-15s %-20s %8d %8d %9s"와 같은 모양 (줄마다 String.format을 쓰면 매우 느림)
+    private static void writeTextRow(Writer writer, WordData wordData) throws IOException {
+        pad(writer, wordData.getWord(), 15, true);
+        writer.write(' ');
+        pad(writer, wordData.getMeaning(), 20, true);
+        writer.write(' ');
+        pad(writer, String.valueOf(wordData.getTotalCount()), 8, false);
+        writer.write(' ');
+        pad(writer, String.valueOf(wordData.getCorrectCount()), 8, false);
+        writer.write(' ');
+        pad(writer, formatAccuracy(wordData), 9, false);
+    }
+
+    private static void pad(Writer writer, String value, int width, boolean leftAlign) throws IOException {
+        if (leftAlign) {
+            writer.write(value);
+        }
+        for (int i = value.length(); i < width; i++) {
+            writer.write(' ');
+        }
+        if (!leftAlign) {
+            writer.write(value);
+        }
+    }
+
+    // 정답률을 소수점 한 자리로 (String.format보다 빠름)
+    private static String formatAccuracy(WordData wordData) {
+        long tenths = Math.round(wordData.getAccuracy() * 10);
+        return tenths / 10 + "." + tenths % 10;
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감쌈
+    private static void writeCsv(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void writeJson(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': writer.write("\\\""); break;
+                case '\\': writer.write("\\\\"); break;
+                case '\n': writer.write("\\n"); break;
+                case '\r': writer.write("\\r"); break;
+                case '\t': writer.write("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("사용법: java StatisticsExporter <단어장 이름> <파일> [txt|csv|jsonl]");
+            System.exit(1);
+        }
+
+        Format format;
+        try {
+            format = args.length > 2 ? Format.valueOf(args[2].toUpperCase()) : Format.fromFileName(args[1]);
+        } catch (IllegalArgumentException e) {
+            System.err.println("지원하지 않는 형식입니다: " + args[2]);
+            System.err.println("사용법: java StatisticsExporter <단어장 이름> <파일> [txt|csv|jsonl]");
+            System.exit(1);
+            return;
+        }
+        if (format == null) {
+            format = Format.TXT;
+        }
+
+        WordBookManager manager = new WordBookManager();
+        int exitCode = 0;
+        try {
+            if (manager.selectWordBook(args[0])) {
+                new StatisticsExporter(manager.getCurrentWordBook(), format).export(new File(args[1]));
+                System.out.println("통계가 저장되었습니다: " + args[1]);
+            } else {
+                System.err.println("단어장을 찾을 수 없습니다: " + args[0]);
+                exitCode = 1;
+            }
+        } catch (IOException e) {
+            System.err.println("통계 내보내기 중 오류 발생: " + e.getMessage());
+            exitCode = 1;
+        } finally {
+            manager.shutdown();
+        }
+        System.exit(exitCode);
+    }
+}
\ No newline at end of file
@@ -1,20 +1,18 @@
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableCellRenderer;
-import javax.swing.table.TableRowSorter;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.BufferedWriter;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 /**
  * 학습 통계를 표시하는 GUI 클래스
@@ -22,12 +20,17 @@ import java.util.List;
 public class StatisticsGUI extends JFrame {
     private WordBook wordBook;
     private JTable statisticsTable;
-    private DefaultTableModel tableModel;
+    private WordTableModel tableModel;
     private JLabel totalWordsLabel;
     private JLabel averageAccuracyLabel;
     private JLabel totalQuestionsLabel;
+    private JLabel statusCountLabel;
+    private Timer summaryTimer; // 학습 중에도 전체 통계를 주기적으로 갱신
+    private StatisticsLoader loader; // 표를 불러오는 백그라운드 작업
+    private SwingWorker<Void, Void> exporter; // 통계를 파일로 내보내는 작업 (창을 닫아도 끝까지 저장)
+    private JLabel loadingLabel;
     private JTable weakWordsTable;
-    private DefaultTableModel weakWordsModel;
+    private WordTableModel weakWordsModel;
     private JButton refreshButton;
     private JButton studyWeakWordsButton;
     private JButton selectAllButton;
@@ -37,9 +40,24 @@ public class StatisticsGUI extends JFrame {
         this.wordBook = wordBook;
         initializeGUI();
         loadStatistics();
+
+        // 집계값만 읽으므로 단어 수와 관계없이 가벼움
+        summaryTimer = new Timer(1000, e -> updateSummary());
+        summaryTimer.start();
         setVisible(true);
     }
 
+    @Override
+    public void dispose() {
+        if (summaryTimer != null) {
+            summaryTimer.stop();
+        }
+        if (loader != null) {
+            loader.cancel(true);
+        }
+        super.dispose();
+    }
+
     private void initializeGUI() {
         setTitle("WordPlay - 학습 통계 [" + wordBook.getName() + "]");
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
@@ -62,7 +80,7 @@ public class StatisticsGUI extends JFrame {
     }
 
     private JPanel createSummaryPanel() {
-        JPanel panel = new JPanel(new GridLayout(1, 3, 10, 10));
+        JPanel panel = new JPanel(new GridLayout(1, 4, 10, 10));
         panel.setBorder(BorderFactory.createCompoundBorder(
                 BorderFactory.createEmptyBorder(10, 10, 10, 10),
                 new TitledBorder("전체 통계")));
@@ -100,9 +118,20 @@ public class StatisticsGUI extends JFrame {
         questionsPanel.add(questionsLabel, BorderLayout.NORTH);
         questionsPanel.add(totalQuestionsLabel, BorderLayout.CENTER);
 
+        // 상태별 단어 수
+        JPanel statusPanel = new JPanel(new BorderLayout());
+        statusPanel.setBorder(BorderFactory.createLoweredBevelBorder());
+        JLabel statusLabel = new JLabel("상태 분포", JLabel.CENTER);
+        statusLabel.setFont(new Font("Malgun Gothic", Font.BOLD, 12));
+        statusCountLabel = new JLabel("", JLabel.CENTER);
+        statusCountLabel.setFont(new Font("Malgun Gothic", Font.PLAIN, 12));
+        statusPanel.add(statusLabel, BorderLayout.NORTH);
+        statusPanel.add(statusCountLabel, BorderLayout.CENTER);
+
         panel.add(totalPanel);
         panel.add(avgPanel);
         panel.add(questionsPanel);
+        panel.add(statusPanel);
 
         return panel;
     }
@@ -119,7 +148,7 @@ public class StatisticsGUI extends JFrame {
 
         // 취약 단어 탭
         JPanel weakWordsPanel = createWeakWordsPanel();
-        tabbedPane.addTab("취약 단어 (정답률 50% 미만)", weakWordsPanel);
+        tabbedPane.addTab("취약 단어", weakWordsPanel);
 
         panel.add(tabbedPane, BorderLayout.CENTER);
         return panel;
@@ -129,14 +158,8 @@ public class StatisticsGUI extends JFrame {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
-        // 테이블 모델 설정
-        String[] columnNames = {"단어", "뜻", "출제 횟수", "정답 횟수", "정답률(%)", "상태"};
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // 편집 불가
-            }
-        };
+        // 테이블 모델 설정 (보이는 행만 단어장에서 읽음)
+        tableModel = new WordTableModel(wordBook, false);
 
         statisticsTable = new JTable(tableModel);
         statisticsTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -150,8 +173,7 @@ public class StatisticsGUI extends JFrame {
         statisticsTable.getColumnModel().getColumn(5).setPreferredWidth(80);  // 상태
 
         // 정렬 기능 추가
-        TableRowSorter<DefaultTableModel> sorter = new TableRowSorter<>(tableModel);
-        statisticsTable.setRowSorter(sorter);
+        enableHeaderSorting(statisticsTable, tableModel);
 
         JScrollPane scrollPane = new JScrollPane(statisticsTable);
         panel.add(scrollPane, BorderLayout.CENTER);
@@ -163,27 +185,21 @@ public class StatisticsGUI extends JFrame {
         JPanel panel = new JPanel(new BorderLayout());
         panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
-        // 설명 라벨
-        JLabel descLabel = new JLabel("정답률이 50% 미만인 단어들입니다. 체크박스를 선택하여 집중적으로 학습해보세요!");
-        descLabel.setBorder(BorderFactory.createEmptyBorder(0, 0, 10, 0));
-        panel.add(descLabel, BorderLayout.NORTH);
-
         // 취약 단어 테이블 (체크박스 포함)
-        String[] weakColumnNames = {"선택", "단어", "뜻", "출제 횟수", "정답 횟수", "정답률(%)"};
-        weakWordsModel = new DefaultTableModel(weakColumnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return column == 0; // 첫 번째 컬럼(체크박스)만 편집 가능
-            }
-
-            @Override
-            public Class<?> getColumnClass(int columnIndex) {
-                if (columnIndex == 0) {
-                    return Boolean.class; // 체크박스
-                }
-                return String.class;
-            }
-        };
+        weakWordsModel = new WordTableModel(wordBook, true);
+
+        // 설명 라벨과 기준 정답률
+        JPanel descPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+        descPanel.setBorder(BorderFactory.createEmptyBorder(0, 0, 10, 0));
+        descPanel.add(new JLabel("정답률이 "));
+        JSpinner thresholdSpinner = new JSpinner(new SpinnerNumberModel(weakWordsModel.getWeakThreshold(), 0.0, 100.0, 5.0));
+        thresholdSpinner.addChangeListener(e -> {
+            weakWordsModel.setWeakThreshold((Double) thresholdSpinner.getValue());
+            loadStatistics();
+        });
+        descPanel.add(thresholdSpinner);
+        descPanel.add(new JLabel("% 미만인 단어들입니다. 체크박스를 선택하여 집중적으로 학습해보세요!"));
+        panel.add(descPanel, BorderLayout.NORTH);
 
         weakWordsTable = new JTable(weakWordsModel);
         weakWordsTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -195,6 +211,7 @@ public class StatisticsGUI extends JFrame {
         weakWordsTable.getColumnModel().getColumn(3).setPreferredWidth(80);  // 출제 횟수
         weakWordsTable.getColumnModel().getColumn(4).setPreferredWidth(80);  // 정답 횟수
         weakWordsTable.getColumnModel().getColumn(5).setPreferredWidth(80);  // 정답률
+        enableHeaderSorting(weakWordsTable, weakWordsModel);
 
         JScrollPane weakScrollPane = new JScrollPane(weakWordsTable);
         panel.add(weakScrollPane, BorderLayout.CENTER);
@@ -210,6 +227,14 @@ public class StatisticsGUI extends JFrame {
         deselectAllButton.addActionListener(e -> selectAllWeakWords(false));
         weakButtonPanel.add(deselectAllButton);
 
+        // 정답률이 가장 낮은 K개만 선택
+        JSpinner bottomSpinner = new JSpinner(new SpinnerNumberModel(10, 1, 1000, 1));
+        weakButtonPanel.add(new JLabel("하위"));
+        weakButtonPanel.add(bottomSpinner);
+        JButton selectBottomButton = new JButton("개 선택");
+        selectBottomButton.addActionListener(e -> selectBottomWeakWords((Integer) bottomSpinner.getValue()));
+        weakButtonPanel.add(selectBottomButton);
+
         studyWeakWordsButton = new JButton("선택한 취약 단어로 퀴즈하기");
         studyWeakWordsButton.addActionListener(new StudyWeakWordsListener());
         weakButtonPanel.add(studyWeakWordsButton);
@@ -220,15 +245,74 @@ public class StatisticsGUI extends JFrame {
     }
 
     private void selectAllWeakWords(boolean select) {
-        for (int i = 0; i < weakWordsModel.getRowCount(); i++) {
-            weakWordsModel.setValueAt(select, i, 0);
+        weakWordsModel.setAllSelected(select);
+    }
+
+    // 정답률 색인은 처음 쓸 때 단어 수만큼 만들어야 하므로 백그라운드에서 조회
+    private void selectBottomWeakWords(int count) {
+        new SwingWorker<List<WordData>, Void>() {
+            @Override
+            protected List<WordData> doInBackground() {
+                return wordBook.getAccuracyIndex().getBottomWords(count);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    weakWordsModel.selectWords(get());
+                } catch (InterruptedException | ExecutionException e) {
+                    System.err.println("취약 단어 선택 중 오류 발생: " + e.getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    // 열 머리글을 누르면 모델의 행 번호 배열만 정렬
+    private void enableHeaderSorting(JTable table, WordTableModel model) {
+        table.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int column = table.columnAtPoint(e.getPoint());
+                if (column >= 0 && model.toggleSort(table.convertColumnIndexToModel(column))) {
+                    sortInBackground(model);
+                }
+            }
+        });
+    }
+
+    private void sortInBackground(WordTableModel model) {
+        // 불러오는 중이면 바뀐 기준으로 다시 불러옴
+        if (loader != null && !loader.isDone()) {
+            loadStatistics();
+            return;
         }
+
+        WordTableModel.Sorter sorter = model.sorter();
+        int[] rows = model.getRows();
+        new SwingWorker<int[], Void>() {
+            @Override
+            protected int[] doInBackground() {
+                return sorter.sort(rows);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    model.setRows(get(), sorter.generation);
+                } catch (InterruptedException | ExecutionException e) {
+                    System.err.println("정렬 중 오류 발생: " + e.getMessage());
+                }
+            }
+        }.execute();
     }
 
     private JPanel createButtonPanel() {
         JPanel panel = new JPanel(new FlowLayout());
         panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
+        loadingLabel = new JLabel(" ");
+        panel.add(loadingLabel);
+
         refreshButton = new JButton("새로고침");
         refreshButton.addActionListener(e -> loadStatistics());
         panel.add(refreshButton);
@@ -245,53 +329,38 @@ public class StatisticsGUI extends JFrame {
     }
 
     private void loadStatistics() {
-        // 전체 통계 계산
-        Collection<WordData> allWords = wordBook.getAllWordData();
-        int totalWords = allWords.size();
-        int totalQuestions = 0;
-        int totalCorrect = 0;
-
-        // 테이블 데이터 초기화
-        tableModel.setRowCount(0);
-        weakWordsModel.setRowCount(0);
-
-        for (WordData wordData : allWords) {
-            totalQuestions += wordData.getTotalCount();
-            totalCorrect += wordData.getCorrectCount();
-
-            // 전체 통계 테이블에 추가
-            String status = getWordStatus(wordData);
-            Object[] row = {
-                    wordData.getWord(),
-                    wordData.getMeaning(),
-                    wordData.getTotalCount(),
-                    wordData.getCorrectCount(),
-                    String.format("%.1f", wordData.getAccuracy()),
-                    status
-            };
-            tableModel.addRow(row);
-
-            // 취약 단어 테이블에 추가 (정답률 50% 미만)
-            if (wordData.getTotalCount() > 0 && wordData.getAccuracy() < 50.0) {
-                Object[] weakRow = {
-                        false, // 기본적으로 체크박스는 선택되지 않음
-                        wordData.getWord(),
-                        wordData.getMeaning(),
-                        wordData.getTotalCount(),
-                        wordData.getCorrectCount(),
-                        String.format("%.1f", wordData.getAccuracy())
-                };
-                weakWordsModel.addRow(weakRow);
-            }
+        // 표는 백그라운드에서 조금씩 채우고, 요약은 집계값이라 바로 표시
+        if (loader != null) {
+            loader.cancel(true);
         }
+        loader = new StatisticsLoader(wordBook, tableModel, weakWordsModel);
+        StatisticsLoader current = loader;
+        current.addPropertyChangeListener(e -> {
+            if (current != loader) return;
+            if (current.isDone()) {
+                loadingLabel.setText(" ");
+            } else {
+                loadingLabel.setText("불러오는 중... " + current.getProgress() + "%");
+            }
+        });
+        loadingLabel.setText("불러오는 중...");
+        current.execute();
+
+        updateSummary();
+    }
 
-        // 전체 통계 업데이트
-        totalWordsLabel.setText(totalWords + "개");
+    // 전체 통계 업데이트 (단어장이 유지하는 집계값 사용)
+    private void updateSummary() {
+        WordBookStatistics statistics = wordBook.getStatistics().snapshot();
+        totalWordsLabel.setText(statistics.getWordCount() + "개");
 
-        double averageAccuracy = totalQuestions > 0 ? (double) totalCorrect / totalQuestions * 100 : 0.0;
+        double averageAccuracy = statistics.getAverageAccuracy();
         averageAccuracyLabel.setText(String.format("%.1f%%", averageAccuracy));
 
-        totalQuestionsLabel.setText(totalQuestions + "회");
+        totalQuestionsLabel.setText(statistics.getTotalQuestions() + "회");
+        statusCountLabel.setText(String.format("<html><center>우수 %d / 보통 %d<br>취약 %d / 미출제 %d</center></html>",
+                statistics.getExcellentCount(), statistics.getNormalCount(),
+                statistics.getWeakCount(), statistics.getUnaskedCount()));
 
         // 정답률에 따른 색상 변경
         if (averageAccuracy >= 80) {
@@ -303,47 +372,32 @@ public class StatisticsGUI extends JFrame {
         }
     }
 
-    private String getWordStatus(WordData wordData) {
-        if (wordData.getTotalCount() == 0) {
-            return "미출제";
-        }
-
-        double accuracy = wordData.getAccuracy();
-        if (accuracy >= 80) {
-            return "우수";
-        } else if (accuracy >= 50) {
-            return "보통";
-        } else {
-            return "취약";
-        }
-    }
-
     // 취약 단어 학습 리스너
     private class StudyWeakWordsListener implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
-            // 체크된 단어들 찾기
-            List<Integer> selectedIndexes = new ArrayList<>();
-            for (int i = 0; i < weakWordsModel.getRowCount(); i++) {
-                Boolean isSelected = (Boolean) weakWordsModel.getValueAt(i, 0);
-                if (isSelected != null && isSelected) {
-                    selectedIndexes.add(i);
+            // 체크할 때 기억해 둔 단어들 (그사이 삭제된 단어는 건너뜀)
+            List<WordData> selectedWords = new ArrayList<>();
+            for (String word : weakWordsModel.getSelectedWords()) {
+                WordData wordData = wordBook.getWordData(word);
+                if (wordData != null) {
+                    selectedWords.add(wordData);
                 }
             }
 
-            if (selectedIndexes.isEmpty()) {
+            if (selectedWords.isEmpty()) {
                 JOptionPane.showMessageDialog(StatisticsGUI.this,
                         "학습할 취약 단어를 체크박스로 선택해주세요.", "알림", JOptionPane.INFORMATION_MESSAGE);
                 return;
             }
 
-            // 선택된 취약 단어들로 임시 단어장 생성
+            // 선택된 취약 단어들로 임시 단어장 생성 (한 번에 추가)
             WordBook tempWordBook = new WordBook("취약 단어 집중 학습");
-            for (int index : selectedIndexes) {
-                String word = (String) weakWordsModel.getValueAt(index, 1);
-                String meaning = (String) weakWordsModel.getValueAt(index, 2);
-                tempWordBook.addWord(word, meaning);
-            }
+            tempWordBook.edit(book -> {
+                for (WordData wordData : selectedWords) {
+                    book.addWord(wordData.getWord(), wordData.getMeaning());
+                }
+            });
 
             // 퀴즈 시작
             QuizGameGUI.startQuiz(tempWordBook);
@@ -354,6 +408,12 @@ public class StatisticsGUI extends JFrame {
     private class ExportStatisticsListener implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
+            if (exporter != null && !exporter.isDone()) {
+                JOptionPane.showMessageDialog(StatisticsGUI.this,
+                        "이미 통계를 내보내는 중입니다.", "알림", JOptionPane.INFORMATION_MESSAGE);
+                return;
+            }
+
             // 파일 저장 대화상자
             JFileChooser fileChooser = new JFileChooser();
             
@@ -362,27 +422,22 @@ public class StatisticsGUI extends JFrame {
             String defaultFileName = wordBook.getName() + "_통계_" + currentDate + ".txt";
             fileChooser.setSelectedFile(new File(defaultFileName));
             
-            // 파일 필터 설정
-            fileChooser.setFileFilter(new javax.swing.filechooser.FileFilter() {
-                @Override
-                public boolean accept(File f) {
-                    return f.isDirectory() || f.getName().toLowerCase().endsWith(".txt");
-                }
-                
-                @Override
-                public String getDescription() {
-                    return "텍스트 파일 (*.txt)";
-                }
-            });
+            // 파일 필터 설정 (형식별)
+            fileChooser.setAcceptAllFileFilterUsed(false);
+            for (StatisticsExporter.Format format : StatisticsExporter.Format.values()) {
+                fileChooser.addChoosableFileFilter(new FormatFilter(format));
+            }
 
             int result = fileChooser.showSaveDialog(StatisticsGUI.this);
             
             if (result == JFileChooser.APPROVE_OPTION) {
                 File selectedFile = fileChooser.getSelectedFile();
                 
-                // 확장자 자동 추가
-                if (!selectedFile.getName().toLowerCase().endsWith(".txt")) {
-                    selectedFile = new File(selectedFile.getAbsolutePath() + ".txt");
+                // 확장자가 있으면 그 형식으로, 없으면 선택한 필터의 형식으로 저장
+                StatisticsExporter.Format format = StatisticsExporter.Format.fromFileName(selectedFile.getName());
+                if (format == null) {
+                    format = ((FormatFilter) fileChooser.getFileFilter()).format;
+                    selectedFile = new File(selectedFile.getAbsolutePath() + "." + format.getExtension());
                 }
                 
                 // 파일이 이미 존재하는 경우 확인
@@ -395,90 +450,65 @@ public class StatisticsGUI extends JFrame {
                     }
                 }
                 
-                // 통계 내용 생성
-                String statisticsContent = generateStatisticsContent();
-                
-                // 파일 저장
-                try {
-                    saveStatisticsToFile(selectedFile, statisticsContent);
-                    JOptionPane.showMessageDialog(StatisticsGUI.this,
-                            "통계가 성공적으로 저장되었습니다.\n저장 위치: " + selectedFile.getAbsolutePath(),
-                            "저장 완료", JOptionPane.INFORMATION_MESSAGE);
-                } catch (IOException ex) {
-                    JOptionPane.showMessageDialog(StatisticsGUI.this,
-                            "파일 저장 중 오류가 발생했습니다: " + ex.getMessage(),
-                            "저장 오류", JOptionPane.ERROR_MESSAGE);
-                }
+                exportInBackground(selectedFile, format);
             }
         }
-        
-        private String generateStatisticsContent() {
-            StringBuilder sb = new StringBuilder();
-            
-            // 헤더 정보
-            sb.append("=".repeat(50)).append("\n");
-            sb.append("WordPlay 학습 통계 리포트\n");
-            sb.append("=".repeat(50)).append("\n");
-            sb.append("단어장: ").append(wordBook.getName()).append("\n");
-            sb.append("생성일시: ").append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy년 MM월 dd일 HH시 mm분"))).append("\n");
-            sb.append("=".repeat(50)).append("\n\n");
-
-            // 전체 통계 요약
-            sb.append("【 전체 통계 요약 】\n");
-            sb.append("-".repeat(30)).append("\n");
-            sb.append("총 단어 수: ").append(totalWordsLabel.getText()).append("\n");
-            sb.append("평균 정답률: ").append(averageAccuracyLabel.getText()).append("\n");
-            sb.append("총 출제 횟수: ").append(totalQuestionsLabel.getText()).append("\n\n");
-
-            // 단어별 상세 통계
-            sb.append("【 단어별 상세 통계 】\n");
-            sb.append("-".repeat(80)).append("\n");
-            sb.append(String.format("%-15s %-20s %8s %8s %10s %8s\n", 
-                    "단어", "뜻", "출제횟수", "정답횟수", "정답률", "상태"));
-            sb.append("-".repeat(80)).append("\n");
-            
-            for (int i = 0; i < tableModel.getRowCount(); i++) {
-                sb.append(String.format("%-15s %-20s %8s %8s %9s%% %8s\n",
-                        tableModel.getValueAt(i, 0), // 단어
-                        tableModel.getValueAt(i, 1), // 뜻
-                        tableModel.getValueAt(i, 2), // 출제 횟수
-                        tableModel.getValueAt(i, 3), // 정답 횟수
-                        tableModel.getValueAt(i, 4), // 정답률
-                        tableModel.getValueAt(i, 5)  // 상태
-                ));
-            }
-            
-            // 취약 단어 통계 (정답률 50% 미만)
-            if (weakWordsModel.getRowCount() > 0) {
-                sb.append("\n\n【 취약 단어 목록 (정답률 50% 미만) 】\n");
-                sb.append("-".repeat(80)).append("\n");
-                sb.append(String.format("%-15s %-20s %8s %8s %10s\n", 
-                        "단어", "뜻", "출제횟수", "정답횟수", "정답률"));
-                sb.append("-".repeat(80)).append("\n");
-                
-                for (int i = 0; i < weakWordsModel.getRowCount(); i++) {
-                    sb.append(String.format("%-15s %-20s %8s %8s %9s%%\n",
-                            weakWordsModel.getValueAt(i, 1), // 단어
-                            weakWordsModel.getValueAt(i, 2), // 뜻
-                            weakWordsModel.getValueAt(i, 3), // 출제 횟수
-                            weakWordsModel.getValueAt(i, 4), // 정답 횟수
-                            weakWordsModel.getValueAt(i, 5)  // 정답률
-                    ));
+
+        // 단어장에서 바로 파일로 쓰므로 표를 다 불러오지 않아도 됨
+        private void exportInBackground(File file, StatisticsExporter.Format format) {
+            double weakThreshold = weakWordsModel.getWeakThreshold();
+            exporter = new SwingWorker<Void, Void>() {
+                @Override
+                protected Void doInBackground() throws IOException {
+                    new StatisticsExporter(wordBook, format)
+                            .setWeakThreshold(weakThreshold)
+                            .setProgressListener(this::setProgress)
+                            .export(file);
+                    return null;
                 }
-            }
-            
-            // 푸터
-            sb.append("\n").append("=".repeat(50)).append("\n");
-            sb.append("WordPlay 학습 통계 리포트 끝\n");
-            sb.append("=".repeat(50));
-            
-            return sb.toString();
+
+                @Override
+                protected void done() {
+                    loadingLabel.setText(" ");
+                    if (isCancelled()) return;
+                    try {
+                        get();
+                        JOptionPane.showMessageDialog(StatisticsGUI.this,
+                                "통계가 성공적으로 저장되었습니다.\n저장 위치: " + file.getAbsolutePath(),
+                                "저장 완료", JOptionPane.INFORMATION_MESSAGE);
+                    } catch (InterruptedException | ExecutionException ex) {
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        JOptionPane.showMessageDialog(StatisticsGUI.this,
+                                "파일 저장 중 오류가 발생했습니다: " + cause.getMessage(),
+                                "저장 오류", JOptionPane.ERROR_MESSAGE);
+                    }
+                }
+            };
+            exporter.addPropertyChangeListener(e -> {
+                if ("progress".equals(e.getPropertyName()) && !exporter.isDone()) {
+                    loadingLabel.setText("내보내는 중... " + e.getNewValue() + "%");
+                }
+            });
+            loadingLabel.setText("내보내는 중...");
+            exporter.execute();
         }
-        
-        private void saveStatisticsToFile(File file, String content) throws IOException {
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(file, java.nio.charset.StandardCharsets.UTF_8))) {
-                writer.write(content);
-            }
+    }
+
+    private static class FormatFilter extends javax.swing.filechooser.FileFilter {
+        private final StatisticsExporter.Format format;
+
+        FormatFilter(StatisticsExporter.Format format) {
+            this.format = format;
+        }
+
+        @Override
+        public boolean accept(File f) {
+            return f.isDirectory() || f.getName().toLowerCase().endsWith("." + format.getExtension());
+        }
+
+        @Override
+        public String getDescription() {
+            return format.getDescription() + " (*." + format.getExtension() + ")";
         }
     }
 
@@ -0,0 +1,341 @@
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.CRC32C;
+
+/**
+ * 단어 통계 변경분을 기록하는 추가 전용(append-only) 저널
+ * 답안 하나마다 전체 파일을 다시 쓰지 않고 (단어장, 단어, 증가량, 시각)만 덧붙임
+ * 복습(SM-2) 결과는 같은 기록 뒤에 바뀐 복습 정보를 덧붙여 저장
+ * 학습자 프로필의 기록은 단어장 이름 뒤에 구분 문자와 학습자 이름을 붙여 저장 (이전 버전은 모르는 단어장으로 보고 건너뜀)
+ * 파일 앞에 매직 번호를 두고 기록마다 CRC32C를 붙여 손상된 기록은 읽지 않음 (매직 번호가 없는 이전 형식은 열 때 다시 씀)
+ * 기록은 한 건(묶음이면 묶음)마다 디스크에 반영한 뒤 반환
+ */
+public class StatisticsJournal {
+    private static final int MAGIC = 0x57504A4C; // "WPJL"
+    private static final int HEADER_SIZE = 4;
+    private static final char PROFILE_SEPARATOR = '\u0000';
+
+    private final File file;
+    private final Object compactLock = new Object(); // 정리는 한 번에 하나만
+    private FileOutputStream fileOut;
+    private DataOutputStream out;
+    private long length;         // 파일 길이 (버퍼에 있는 기록 포함)
+    private long lastSequence;   // 마지막으로 기록된 일련번호
+    private int recordCount;     // 파일에 남아 있는 기록 수
+    private int batchDepth;      // 0보다 크면 기록마다 파일에 쓰지 않고 묶음이 끝날 때 한 번에 씀
+
+    // 저널 기록 한 건
+    public static class Entry {
+        public final long sequence;
+        public final long timestamp;
+        public final String bookName;
+        public final String profile;   // 학습자 (null이면 단어장의 공용 횟수)
+        public final String word;
+        public final int totalDelta;
+        public final int correctDelta;
+        public final boolean review;   // 복습 정보가 함께 기록되었는지
+        public final int easeFactor;
+        public final int interval;
+        public final int repetitions;
+        public final long dueTime;
+
+        Entry(long sequence, long timestamp, String bookName, String profile, String word,
+              int totalDelta, int correctDelta) {
+            this(sequence, timestamp, bookName, profile, word, totalDelta, correctDelta, false, 0, 0, 0, 0);
+        }
+
+        Entry(long sequence, long timestamp, String bookName, String profile, String word,
+              int totalDelta, int correctDelta, boolean review, int easeFactor, int interval,
+              int repetitions, long dueTime) {
+            this.sequence = sequence;
+            this.timestamp = timestamp;
+            this.bookName = bookName;
+            this.profile = profile;
+            this.word = word;
+            this.totalDelta = totalDelta;
+            this.correctDelta = correctDelta;
+            this.review = review;
+            this.easeFactor = easeFactor;
+            this.interval = interval;
+            this.repetitions = repetitions;
+            this.dueTime = dueTime;
+        }
+    }
+
+    public StatisticsJournal(String fileName) throws IOException {
+        this.file = new File(fileName);
+        this.lastSequence = 0;
+        this.recordCount = 0;
+
+        // 중간에 끊기거나 손상된 기록부터는 잘라내고 이어서 기록
+        if (file.exists() && file.length() > 0) {
+            boolean legacy = !hasHeader(file);
+            List<byte[]> payloads = new ArrayList<>();
+            long validLength = readRecords(file, legacy ? 0 : HEADER_SIZE, file.length(), !legacy, payloads);
+            for (byte[] payload : payloads) {
+                lastSequence = Math.max(lastSequence, decode(payload).sequence);
+            }
+            recordCount = payloads.size();
+            if (legacy) {
+                File temp = new File(file.getPath() + ".tmp");
+                try {
+                    writeRecords(temp, false, payloads);
+                    replaceWith(temp);
+                } finally {
+                    temp.delete();
+                }
+            } else {
+                try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                    raf.setLength(validLength);
+                }
+            }
+        }
+        openForAppend();
+    }
+
+    // 변경분 기록 (기록 크기는 단어장 크기와 무관, profile이 null이면 공용 횟수)
+    public synchronized long append(String bookName, String profile, String word,
+                                    int totalDelta, int correctDelta) throws IOException {
+        long sequence = ++lastSequence;
+        length += writePayload(out, encode(new Entry(sequence, System.currentTimeMillis(), bookName, profile,
+                word, totalDelta, correctDelta)));
+        if (batchDepth == 0) {
+            sync();
+        }
+        recordCount++;
+        return sequence;
+    }
+
+    // 복습 결과 기록 (바뀐 뒤의 복습 정보 전체를 남김)
+    public synchronized long appendReview(String bookName, String profile, String word, int easeFactor,
+                                          int interval, int repetitions, long dueTime) throws IOException {
+        long sequence = ++lastSequence;
+        length += writePayload(out, encode(new Entry(sequence, System.currentTimeMillis(), bookName, profile,
+                word, 0, 0, true, easeFactor, interval, repetitions, dueTime)));
+        if (batchDepth == 0) {
+            sync();
+        }
+        recordCount++;
+        return sequence;
+    }
+
+    // 기록 묶음 시작 (endBatch까지의 기록은 버퍼에 모았다가 한 번에 쓰고 디스크에 반영)
+    public synchronized void beginBatch() {
+        batchDepth++;
+    }
+
+    public synchronized void endBatch() throws IOException {
+        if (--batchDepth == 0) {
+            sync();
+        }
+    }
+
+    // 파일에 남은 모든 기록 읽기
+    public synchronized List<Entry> readEntries() throws IOException {
+        out.flush();
+        List<byte[]> payloads = new ArrayList<>();
+        readRecords(file, HEADER_SIZE, length, true, payloads);
+        List<Entry> entries = new ArrayList<>(payloads.size());
+        for (byte[] payload : payloads) {
+            entries.add(decode(payload));
+        }
+        return entries;
+    }
+
+    // 스냅샷에 반영된 기록(snapshotSequence 이하) 제거
+    // 잠금 안에서는 지금까지의 파일 길이만 정해 두고, 읽기와 디스크 반영은 잠금 밖에서 해서 그동안의 기록을 막지 않음
+    // 그사이 덧붙은 기록(대개 몇 건)만 잠금 안에서 옮겨 쓰고 원자적으로 교체
+    public void compact(long snapshotSequence) throws IOException {
+        synchronized (compactLock) {
+            long snapshotLength;
+            boolean hasRemaining;
+            synchronized (this) {
+                out.flush();
+                snapshotLength = length;
+                hasRemaining = lastSequence > snapshotSequence;
+            }
+
+            List<byte[]> remaining = new ArrayList<>();
+            if (hasRemaining) {
+                List<byte[]> payloads = new ArrayList<>();
+                readRecords(file, HEADER_SIZE, snapshotLength, true, payloads);
+                for (byte[] payload : payloads) {
+                    if (decode(payload).sequence > snapshotSequence) {
+                        remaining.add(payload);
+                    }
+                }
+            }
+
+            // 남은 기록은 스냅샷에 없는 유일한 사본이므로 임시 파일에 쓰고 디스크에 반영한 뒤 교체
+            File temp = new File(file.getPath() + ".tmp");
+            try {
+                writeRecords(temp, false, remaining);
+                synchronized (this) {
+                    out.flush();
+                    List<byte[]> appended = new ArrayList<>();
+                    readRecords(file, snapshotLength, length, true, appended);
+                    if (!appended.isEmpty()) {
+                        writeRecords(temp, true, appended);
+                    }
+                    out.close();
+                    try {
+                        replaceWith(temp);
+                        recordCount = remaining.size() + appended.size();
+                    } finally {
+                        openForAppend(); // 실패했으면 기존 저널을 그대로 두고 이어서 기록
+                    }
+                }
+            } finally {
+                temp.delete();
+            }
+        }
+    }
+
+    // 스냅샷의 일련번호보다 작은 번호가 다시 쓰이지 않도록 설정
+    public synchronized void advanceSequence(long sequence) {
+        lastSequence = Math.max(lastSequence, sequence);
+    }
+
+    public synchronized void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            System.err.println("저널 닫기 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    private void openForAppend() throws IOException {
+        fileOut = new FileOutputStream(file, true);
+        out = new DataOutputStream(new BufferedOutputStream(fileOut));
+        length = file.length();
+        if (length == 0) {
+            out.writeInt(MAGIC);
+            length = HEADER_SIZE;
+            sync();
+        }
+    }
+
+    // 버퍼에 모인 기록을 파일에 쓰고 디스크에 반영
+    private void sync() throws IOException {
+        out.flush();
+        fileOut.getChannel().force(false);
+    }
+
+    // 디스크에 반영된 임시 파일로 저널을 원자적으로 교체
+    private void replaceWith(File temp) throws IOException {
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        WordBookStorage.syncDirectory(file.getAbsoluteFile().getParentFile());
+    }
+
+    private static boolean hasHeader(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            return file.length() >= HEADER_SIZE && in.readInt() == MAGIC;
+        }
+    }
+
+    // 기록들을 파일에 쓰고 디스크에 반영 (append가 아니면 새 파일로 매직 번호부터 씀)
+    private static void writeRecords(File target, boolean append, List<byte[]> payloads) throws IOException {
+        try (FileOutputStream fos = new FileOutputStream(target, append);
+             DataOutputStream rewrite = new DataOutputStream(new BufferedOutputStream(fos))) {
+            if (!append) {
+                rewrite.writeInt(MAGIC);
+            }
+            for (byte[] payload : payloads) {
+                writePayload(rewrite, payload);
+            }
+            rewrite.flush();
+            fos.getFD().sync();
+        }
+    }
+
+    // start부터 end까지의 기록을 payloads에 담고 마지막으로 온전한 기록이 끝나는 위치를 반환
+    // 길이가 남은 크기를 넘거나 CRC가 맞지 않으면 끊기거나 손상된 기록으로 보고 거기서 멈춤 (이전 형식은 CRC 없음)
+    private static long readRecords(File file, long start, long end, boolean checksummed,
+                                    List<byte[]> payloads) throws IOException {
+        int trailer = checksummed ? 4 : 0;
+        long position = start;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+             DataInputStream in = new DataInputStream(
+                     new BufferedInputStream(Channels.newInputStream(channel.position(start))))) {
+            while (end - position >= 4) {
+                int length = in.readInt();
+                if (length <= 0 || length > end - position - 4 - trailer) break;
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                if (checksummed) {
+                    CRC32C crc = new CRC32C();
+                    crc.update(payload);
+                    if (in.readInt() != (int) crc.getValue()) break;
+                }
+                payloads.add(payload);
+                position += 4 + length + trailer;
+            }
+        }
+        return position;
+    }
+
+    // 기록 형식: [길이][일련번호][시각][단어장 (학습자 기록이면 단어장\0학습자)][단어][출제 증가량][정답 증가량]
+    //           (복습 기록이면 뒤에 [난이도 계수][간격][연속 횟수][다음 복습 시각])[CRC]
+    private static int writePayload(DataOutputStream target, byte[] payload) throws IOException {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        target.writeInt(payload.length);
+        target.write(payload);
+        target.writeInt((int) crc.getValue());
+        return 8 + payload.length;
+    }
+
+    private static byte[] encode(Entry entry) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        DataOutputStream record = new DataOutputStream(buffer);
+        record.writeLong(entry.sequence);
+        record.writeLong(entry.timestamp);
+        record.writeUTF(entry.profile == null ? entry.bookName
+                : entry.bookName + PROFILE_SEPARATOR + entry.profile);
+        record.writeUTF(entry.word);
+        record.writeInt(entry.totalDelta);
+        record.writeInt(entry.correctDelta);
+        if (entry.review) {
+            record.writeInt(entry.easeFactor);
+            record.writeInt(entry.interval);
+            record.writeInt(entry.repetitions);
+            record.writeLong(entry.dueTime);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static Entry decode(byte[] payload) throws IOException {
+        DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+        long sequence = record.readLong();
+        long timestamp = record.readLong();
+        String bookName = record.readUTF();
+        String profile = null;
+        int separator = bookName.indexOf(PROFILE_SEPARATOR);
+        if (separator >= 0) {
+            profile = bookName.substring(separator + 1);
+            bookName = bookName.substring(0, separator);
+        }
+        String word = record.readUTF();
+        int totalDelta = record.readInt();
+        int correctDelta = record.readInt();
+        if (record.available() == 0) {
+            return new Entry(sequence, timestamp, bookName, profile, word, totalDelta, correctDelta);
+        }
+        return new Entry(sequence, timestamp, bookName, profile, word, totalDelta, correctDelta,
+                true, record.readInt(), record.readInt(), record.readInt(), record.readLong());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+import javax.swing.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 통계 표를 백그라운드에서 불러오는 작업
+ * 단어장을 일정 개수씩 나누어 훑고, 만든 행 번호를 조각 단위로 표에 덧붙임 (EDT는 배열 복사만 수행)
+ * 취약 단어 표도 같은 순회에서 채움 (정답률 색인을 새로 만들면 단어마다 객체가 생겨 GC 멈춤이 EDT까지 멈춤)
+ * 정렬 기준이 있으면(취약 단어 표는 기본이 정답률 낮은 순) 끝난 뒤 정렬까지 백그라운드에서 마치고 한 번에 교체
+ */
+public class StatisticsLoader extends SwingWorker<int[][], int[][]> {
+    private static final int CHUNK_SIZE = 5000; // 한 번에 표에 덧붙일 단어 수
+
+    private final WordBook wordBook;
+    private final WordTableModel[] models;
+    private final WordTableModel.Sorter[] sorters;
+
+    // EDT에서 생성 (표를 비우고 현재 정렬 기준을 기억)
+    public StatisticsLoader(WordBook wordBook, WordTableModel... models) {
+        this.wordBook = wordBook;
+        this.models = models;
+        this.sorters = new WordTableModel.Sorter[models.length];
+        for (int i = 0; i < models.length; i++) {
+            models[i].clear();
+            sorters[i] = models[i].sorter();
+        }
+    }
+
+    @Override
+    protected int[][] doInBackground() {
+        int count = wordBook.getWordCount();
+        int[][] all = new int[models.length][count];
+        int[] sizes = new int[models.length];
+
+        boolean truncated = false;
+        for (int start = 0; start < count && !truncated && !isCancelled(); start += CHUNK_SIZE) {
+            int end = Math.min(start + CHUNK_SIZE, count);
+            int[] chunkStarts = sizes.clone();
+            for (int index = start; index < end; index++) {
+                WordData wordData;
+                try {
+                    wordData = wordBook.wordDataAt(index);
+                } catch (IndexOutOfBoundsException e) {
+                    end = index; // 불러오는 도중 단어가 삭제됨
+                    truncated = true;
+                    break;
+                }
+                for (int i = 0; i < models.length; i++) {
+                    if (models[i].accepts(wordData)) {
+                        all[i][sizes[i]++] = index;
+                    }
+                }
+            }
+
+            int[][] chunk = new int[models.length][];
+            for (int i = 0; i < models.length; i++) {
+                chunk[i] = Arrays.copyOfRange(all[i], chunkStarts[i], sizes[i]);
+            }
+            publish(chunk);
+            setProgress((int) ((long) end * 100 / count));
+            Thread.yield(); // 코어가 적을 때 EDT가 조각을 바로 처리할 수 있도록 양보
+        }
+
+        // 정렬이 필요한 표만 정렬한 결과를 돌려줌
+        int[][] sorted = new int[models.length][];
+        for (int i = 0; i < models.length && !isCancelled(); i++) {
+            if (sorters[i].isActive()) {
+                sorted[i] = sorters[i].sort(Arrays.copyOf(all[i], sizes[i]));
+            }
+        }
+        return sorted;
+    }
+
+    @Override
+    protected void process(List<int[][]> chunks) {
+        if (isCancelled()) return;
+        for (int[][] chunk : chunks) {
+            for (int i = 0; i < models.length; i++) {
+                models[i].appendRows(chunk[i]);
+            }
+        }
+    }
+
+    @Override
+    protected void done() {
+        if (isCancelled()) return;
+        try {
+            int[][] sorted = get();
+            for (int i = 0; i < models.length; i++) {
+                if (sorted[i] != null) {
+                    models[i].setRows(sorted[i], sorters[i].generation);
+                }
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            System.err.println("통계 불러오기 중 오류 발생: " + e.getMessage());
+        }
+    }
+}
\ No newline at end of file
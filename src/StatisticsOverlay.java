@@ -0,0 +1,210 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 학습자 한 명이 단어장 하나에서 쌓은 출제/정답 횟수와 복습 정보
+ * 단어 내용은 단어장에 한 번만 두고, 학습자가 실제로 풀어 본 단어의 값만 단어로 찾는 열에 따로 저장
+ * (단어장 목록 안의 번호는 삭제 때 바뀌므로 단어 자체를 키로 사용)
+ * 기록이 없는 단어는 출제 0회, 복습 전으로 봄
+ */
+public class StatisticsOverlay {
+    private static final int MIN_CAPACITY = 16;
+
+    private final LearnerProfile profile;
+    private int size;
+    private String[] words;       // 개방 주소법 표 (null이면 빈 칸), 절반 이하만 채움
+    private int[] totals;
+    private int[] corrects;
+    private int[] easeFactors;    // 0이면 기본값
+    private int[] intervals;
+    private int[] repetitions;
+    private long[] dueTimes;
+
+    StatisticsOverlay(LearnerProfile profile) {
+        this(profile, 0);
+    }
+
+    StatisticsOverlay(LearnerProfile profile, int expectedSize) {
+        this.profile = profile;
+        allocate(tableSize(expectedSize));
+    }
+
+    public LearnerProfile getProfile() {
+        return profile;
+    }
+
+    // 기록이 있는 단어 수
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized int getTotalCount(String word) {
+        int slot = find(word);
+        return slot >= 0 ? totals[slot] : 0;
+    }
+
+    public synchronized int getCorrectCount(String word) {
+        int slot = find(word);
+        return slot >= 0 ? corrects[slot] : 0;
+    }
+
+    public synchronized int getEaseFactor(String word) {
+        int slot = find(word);
+        return slot >= 0 && easeFactors[slot] > 0 ? easeFactors[slot] : WordData.DEFAULT_EASE_FACTOR;
+    }
+
+    public synchronized int getInterval(String word) {
+        int slot = find(word);
+        return slot >= 0 ? intervals[slot] : 0;
+    }
+
+    public synchronized int getRepetitions(String word) {
+        int slot = find(word);
+        return slot >= 0 ? repetitions[slot] : 0;
+    }
+
+    public synchronized long getDueTime(String word) {
+        int slot = find(word);
+        return slot >= 0 ? dueTimes[slot] : 0L;
+    }
+
+    synchronized void applyCounts(String word, int totalDelta, int correctDelta) {
+        int slot = findOrInsert(word);
+        totals[slot] += totalDelta;
+        corrects[slot] += correctDelta;
+    }
+
+    synchronized void applyReview(String word, int easeFactor, int interval, int repetitionCount, long dueTime) {
+        int slot = findOrInsert(word);
+        easeFactors[slot] = easeFactor;
+        intervals[slot] = interval;
+        repetitions[slot] = repetitionCount;
+        dueTimes[slot] = dueTime;
+    }
+
+    // 형식: [단어 수]([단어][출제 횟수][정답 횟수][난이도 계수][복습 간격][연속 횟수][다음 복습 시각])*
+    synchronized void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(size);
+        for (int slot = 0; slot < words.length; slot++) {
+            if (words[slot] == null) continue;
+            out.writeUTF(words[slot]);
+            out.writeInt(totals[slot]);
+            out.writeInt(corrects[slot]);
+            out.writeInt(easeFactors[slot]);
+            out.writeInt(intervals[slot]);
+            out.writeInt(repetitions[slot]);
+            out.writeLong(dueTimes[slot]);
+        }
+    }
+
+    static StatisticsOverlay readFrom(LearnerProfile profile, DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("학습 기록 수가 잘못되었습니다: " + count);
+        }
+        StatisticsOverlay overlay = new StatisticsOverlay(profile, count);
+        for (int i = 0; i < count; i++) {
+            int slot = overlay.findOrInsert(in.readUTF());
+            overlay.totals[slot] = in.readInt();
+            overlay.corrects[slot] = in.readInt();
+            overlay.easeFactors[slot] = in.readInt();
+            overlay.intervals[slot] = in.readInt();
+            overlay.repetitions[slot] = in.readInt();
+            overlay.dueTimes[slot] = in.readLong();
+        }
+        return overlay;
+    }
+
+    // 기록이 있는 단어마다 호출 (표 순서)
+    synchronized void forEach(EntryVisitor visitor) {
+        for (int slot = 0; slot < words.length; slot++) {
+            if (words[slot] != null) {
+                visitor.visit(words[slot], totals[slot], corrects[slot], easeFactors[slot],
+                        intervals[slot], repetitions[slot], dueTimes[slot]);
+            }
+        }
+    }
+
+    interface EntryVisitor {
+        void visit(String word, int total, int correct, int easeFactor, int interval, int repetitions, long dueTime);
+    }
+
+    private int find(String word) {
+        int mask = words.length - 1;
+        for (int slot = mix(word.hashCode()) & mask; words[slot] != null; slot = (slot + 1) & mask) {
+            if (words[slot].equals(word)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int findOrInsert(String word) {
+        int slot = find(word);
+        if (slot >= 0) {
+            return slot;
+        }
+        if ((size + 1) * 2 > words.length) {
+            grow();
+        }
+        int mask = words.length - 1;
+        slot = mix(word.hashCode()) & mask;
+        while (words[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        words[slot] = word;
+        size++;
+        return slot;
+    }
+
+    private void grow() {
+        String[] oldWords = words;
+        int[] oldTotals = totals;
+        int[] oldCorrects = corrects;
+        int[] oldEaseFactors = easeFactors;
+        int[] oldIntervals = intervals;
+        int[] oldRepetitions = repetitions;
+        long[] oldDueTimes = dueTimes;
+
+        allocate(oldWords.length * 2);
+        int mask = words.length - 1;
+        for (int old = 0; old < oldWords.length; old++) {
+            if (oldWords[old] == null) continue;
+            int slot = mix(oldWords[old].hashCode()) & mask;
+            while (words[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            words[slot] = oldWords[old];
+            totals[slot] = oldTotals[old];
+            corrects[slot] = oldCorrects[old];
+            easeFactors[slot] = oldEaseFactors[old];
+            intervals[slot] = oldIntervals[old];
+            repetitions[slot] = oldRepetitions[old];
+            dueTimes[slot] = oldDueTimes[old];
+        }
+    }
+
+    private void allocate(int capacity) {
+        words = new String[capacity];
+        totals = new int[capacity];
+        corrects = new int[capacity];
+        easeFactors = new int[capacity];
+        intervals = new int[capacity];
+        repetitions = new int[capacity];
+        dueTimes = new long[capacity];
+    }
+
+    private static int tableSize(int expectedSize) {
+        return Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize) * 2 - 1) << 1;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return profile.getName() + " (" + size + "개 단어 기록)";
+    }
+}
\ No newline at end of file
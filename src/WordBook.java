@@ -1,25 +1,316 @@
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * 단어장 클래스
  * 단어들과 그 정보를 관리
+ * 여러 스레드에서 함께 써도 되며, 단어 추가/삭제/수정과 횟수 변경, 저장용 스냅샷은 단어장 잠금 안에서 함
+ * 잠금 순서는 저널 -> 매니저 -> 단어장이므로 단어장 잠금을 쥔 채로 저장을 요청하지 않음
+ * 색인은 단어 번호(position)를 보관하며 따로 잠금을 두지 않고 단어장 잠금을 같이 씀
  */
 public class WordBook implements Serializable {
     private static final long serialVersionUID = 1L;
 
-    private String name;
-    private Map<String, WordData> words;
+    private volatile String name;
+    private Map<String, WordData> words; // 잠금 없이 읽을 수 있도록 ConcurrentHashMap
     private transient WordBookManager manager; // 직렬화에서 제외
+    private transient ArrayList<WordData> wordList; // 번호로 접근하는 단어 목록 (랜덤 추출용)
+    private transient DueIndex dueIndex; // 복습 예정일 색인 (처음 필요할 때 만듦)
+    private transient WordBookStatistics statistics; // 전체 통계 집계 (단어장에 저장되는 공용 횟수)
+    private transient volatile StatisticsOverlay overlay; // 선택된 학습자의 기록 (null이면 공용 횟수 사용)
+    private transient volatile WordBookStatistics learnerStatistics; // 선택된 학습자의 통계 집계
+    private transient AccuracyIndex accuracyIndex; // 정답률 순 색인 (처음 필요할 때 만듦)
+    private transient WordSearchIndex searchIndex; // 검색 색인 (처음 필요할 때 만듦)
+    private transient MeaningIndex meaningIndex; // 뜻 -> 단어 색인 (처음 필요할 때 만듦)
+    private transient ReentrantLock editLock;  // 한 번에 한 스레드만 edit() 실행
+    private transient volatile Thread editor;  // edit() 중인 스레드 (다른 스레드의 변경은 묶지 않음)
+    private transient int editDepth;           // edit() 중첩 깊이 (0이면 편집 중 아님)
+    private transient boolean savePending;     // 편집 중에 미룬 저장 요청이 있음
+    private transient List<Runnable> undoLog;  // 편집 중 변경을 되돌리는 작업 (오류 시 역순 실행)
 
     public WordBook(String name) {
         this.name = name;
-        this.words = new HashMap<>();
+        this.words = new ConcurrentHashMap<>();
+        this.wordList = new ArrayList<>();
+        this.statistics = new WordBookStatistics();
+        this.editLock = new ReentrantLock();
+    }
+
+    // 이전 형식(Java 직렬화)으로 읽을 때 단어 목록 다시 만들기
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        words = new ConcurrentHashMap<>(words);
+        editLock = new ReentrantLock();
+        wordList = new ArrayList<>(words.size());
+        statistics = new WordBookStatistics();
+        for (WordData wordData : words.values()) {
+            addToIndexes(wordData);
+        }
     }
 
     // WordBookManager 설정 (저장을 위해 필요)
     public void setManager(WordBookManager manager) {
         this.manager = manager;
+        for (WordData wordData : words.values()) {
+            wordData.setWordBook(this);
+        }
+    }
+
+    // 여러 변경을 묶어서 적용하고 저장은 끝날 때 한 번만 요청
+    // 도중에 예외가 나면 이 edit 안에서 한 추가/삭제/수정을 되돌리고 예외를 다시 던짐
+    // (출제/정답 횟수와 복습 정보는 저널에 바로 기록되므로 되돌리지 않음)
+    // 이름 변경은 관리자 쪽 목록까지 바뀌어 되돌릴 수 없으므로 edit 안에서는 허용하지 않음
+    // 다른 스레드의 edit는 이 edit가 끝날 때까지 기다리고, edit 밖에서 한 변경은 평소처럼 바로 저장 요청
+    // 저장 스레드는 edit 도중의 단어장을 건너뛰고, 되돌린 경우에도 끝날 때 저장을 요청해 되돌린 상태를 기록
+    public void edit(Consumer<? super WordBook> changes) {
+        editLock.lock();
+        try {
+            boolean outermost;
+            int undoStart;
+            synchronized (this) { // 저장 스레드가 편집 중인지 확인하는 것과 어긋나지 않도록
+                outermost = editDepth == 0;
+                if (outermost) {
+                    editor = Thread.currentThread();
+                    undoLog = new ArrayList<>();
+                }
+                undoStart = undoLog.size();
+                editDepth++;
+            }
+            try {
+                changes.accept(this);
+            } catch (RuntimeException | Error e) {
+                for (int i = undoLog.size() - 1; i >= undoStart; i--) {
+                    undoLog.remove(i).run();
+                }
+                throw e;
+            } finally {
+                boolean save;
+                synchronized (this) {
+                    editDepth--;
+                    save = outermost && savePending;
+                    if (outermost) {
+                        editor = null;
+                        undoLog = null;
+                        savePending = false;
+                    }
+                }
+                if (save) {
+                    requestSave();
+                }
+            }
+        } finally {
+            editLock.unlock();
+        }
+    }
+
+    // 현재 스레드가 edit() 중인지
+    public boolean isEditing() {
+        return editor == Thread.currentThread();
+    }
+
+    // 편집 중이면 저장을 미루고 되돌리기 작업을 기록 (단어장 잠금 밖에서 호출)
+    void changed(Runnable undo) {
+        if (isEditing()) {
+            synchronized (this) {
+                savePending = true;
+            }
+            undoLog.add(undo);
+        } else {
+            requestSave();
+        }
+    }
+
+    // 저장 스레드용: edit() 도중이면 끝날 때 저장을 다시 요청하도록 표시하고 true
+    synchronized boolean deferSaveIfEditing() {
+        if (editDepth == 0) {
+            return false;
+        }
+        savePending = true;
+        return true;
+    }
+
+    private void requestSave() {
+        if (manager != null) {
+            manager.saveData(this);
+        }
+    }
+
+    // 저장 요청 없이 단어 제거 (되돌리기용)
+    private synchronized void discardWord(String word) {
+        WordData removed = words.remove(word);
+        if (removed != null) {
+            removeFromIndexes(removed);
+        }
+    }
+
+    // 단어 통계 변경 - 전체 저장 대신 저널에 변경분만 기록
+    void recordStatistics(WordData wordData, int totalDelta, int correctDelta) {
+        if (manager != null) {
+            manager.recordStatistics(this, wordData, totalDelta, correctDelta);
+        } else {
+            applyCounts(wordData, totalDelta, correctDelta);
+        }
+    }
+
+    // 출제/정답 횟수를 바꾸고 전체 통계 집계도 함께 갱신
+    synchronized void applyCounts(WordData wordData, int totalDelta, int correctDelta) {
+        if (overlay != null) {
+            applyLearnerCounts(wordData, totalDelta, correctDelta);
+            return;
+        }
+        if (words.get(wordData.getWord()) != wordData) {
+            wordData.applyCounts(totalDelta, correctDelta); // 그새 삭제된 단어는 집계에 넣지 않음
+            return;
+        }
+        int total = wordData.getSharedTotalCount();
+        int correct = wordData.getSharedCorrectCount();
+        statistics.update(total, correct, totalDelta, correctDelta);
+        wordData.applyCounts(totalDelta, correctDelta);
+        if (accuracyIndex != null) {
+            accuracyIndex.update(wordData.position, total, correct, total + totalDelta, correct + correctDelta);
+        }
+    }
+
+    // 선택된 학습자의 기록에 횟수를 더함 (공용 횟수는 그대로, 단어장 잠금 안에서 호출)
+    void applyLearnerCounts(WordData wordData, int totalDelta, int correctDelta) {
+        String word = wordData.getWord();
+        int total = overlay.getTotalCount(word);
+        int correct = overlay.getCorrectCount(word);
+        overlay.applyCounts(word, totalDelta, correctDelta);
+        if (!getAllWords().contains(word)) {
+            return; // 그새 삭제된 단어는 집계에 넣지 않음
+        }
+        learnerStatistics.update(total, correct, totalDelta, correctDelta);
+        if (accuracyIndex != null && words.get(word) == wordData) {
+            accuracyIndex.update(wordData.position, total, correct, total + totalDelta, correct + correctDelta);
+        }
+    }
+
+    // 전체 통계 집계 (단어를 훑지 않고 O(1), 학습자가 선택되어 있으면 그 학습자의 집계)
+    public WordBookStatistics getStatistics() {
+        WordBookStatistics learner = learnerStatistics;
+        return learner != null ? learner : statistics;
+    }
+
+    // 학습자와 관계없는 공용 횟수 집계 (하위 클래스가 공용 횟수를 바꿀 때 사용)
+    WordBookStatistics getSharedStatistics() {
+        return statistics;
+    }
+
+    StatisticsOverlay getOverlay() {
+        return overlay;
+    }
+
+    // 학습자의 기록으로 바꿔 보기 (null이면 공용 횟수)
+    // 단어를 복사하지 않고 그 학습자가 풀어 본 단어만 훑어 집계를 만듦 (학습량에 비례)
+    synchronized void setOverlay(StatisticsOverlay overlay) {
+        if (overlay == this.overlay) {
+            return;
+        }
+        this.overlay = overlay;
+        dueIndex = null; // 복습 예정일 색인은 필요할 때 다시 만듦
+        if (overlay == null) {
+            learnerStatistics = null;
+            accuracyIndex = null;
+            return;
+        }
+
+        WordBookStatistics learner = new WordBookStatistics();
+        learner.addUnasked(getWordCount());
+        AccuracyIndex asked = accuracyIndex != null ? new AccuracyIndex(this) : null; // 출제된 단어만 들어감
+        Set<String> present = getAllWords();
+        overlay.forEach((word, total, correct, easeFactor, interval, repetitions, dueTime) -> {
+            if (total > 0 && present.contains(word)) {
+                learner.update(0, 0, total, correct);
+                WordData wordData = asked != null ? words.get(word) : null;
+                if (wordData != null) {
+                    asked.add(wordData.position, total, correct);
+                }
+            }
+        });
+        learnerStatistics = learner;
+        if (asked != null) {
+            accuracyIndex = asked;
+        }
+    }
+
+    // 단어가 추가/삭제될 때 선택된 학습자의 집계도 함께 갱신 (단어장 잠금 안에서 호출)
+    void learnerWordAdded(String word) {
+        if (overlay != null) {
+            learnerStatistics.add(overlay.getTotalCount(word), overlay.getCorrectCount(word));
+        }
+    }
+
+    void learnerWordRemoved(String word) {
+        if (overlay != null) {
+            learnerStatistics.remove(overlay.getTotalCount(word), overlay.getCorrectCount(word));
+        }
+    }
+
+    // 복습 정보 변경 - 통계와 마찬가지로 저널에 기록
+    void recordReview(WordData wordData, int easeFactor, int interval, int repetitions, long dueTime) {
+        if (manager != null) {
+            manager.recordReview(this, wordData, easeFactor, interval, repetitions, dueTime);
+        } else {
+            applyReview(wordData, easeFactor, interval, repetitions, dueTime);
+        }
+    }
+
+    // 복습 정보를 바꾸고 복습 예정일 색인도 함께 갱신
+    synchronized void applyReview(WordData wordData, int easeFactor, int interval, int repetitions, long dueTime) {
+        long previousDueTime = wordData.getDueTime();
+        if (overlay != null) {
+            overlay.applyReview(wordData.getWord(), easeFactor, interval, repetitions, dueTime);
+        } else {
+            wordData.applyReview(easeFactor, interval, repetitions, dueTime);
+        }
+        if (dueIndex != null && words.get(wordData.getWord()) == wordData) {
+            dueIndex.update(wordData.position, previousDueTime, dueTime);
+        }
+    }
+
+    // 정답률 순 색인 (처음 호출할 때 한 번만 전체 단어를 훑어서 만듦)
+    public synchronized AccuracyIndex getAccuracyIndex() {
+        if (accuracyIndex == null) {
+            accuracyIndex = new AccuracyIndex(this, getAllWordData());
+        }
+        return accuracyIndex;
+    }
+
+    // 검색 색인 (처음 호출할 때 한 번만 전체 단어를 훑어서 만듦)
+    public synchronized WordSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new WordSearchIndex(this, getAllWordData());
+        }
+        return searchIndex;
+    }
+
+    // 뜻 -> 단어 색인 (처음 호출할 때 한 번만 전체 단어를 훑어서 만듦)
+    public synchronized MeaningIndex getMeaningIndex() {
+        if (meaningIndex == null) {
+            meaningIndex = new MeaningIndex(this, getAllWordData());
+        }
+        return meaningIndex;
+    }
+
+    // 뜻 항목이 하나라도 같은 단어들 (단어를 추가하기 전 중복 뜻 확인용)
+    public Set<WordData> findSameMeaningWords(String meaning) {
+        if (meaning == null) {
+            return new LinkedHashSet<>();
+        }
+        return getMeaningIndex().getWordsSharingMeaning(meaning);
+    }
+
+    // 복습 예정일 색인 (처음 호출할 때 한 번만 전체 단어를 훑어서 만듦)
+    public synchronized DueIndex getDueIndex() {
+        if (dueIndex == null) {
+            dueIndex = new DueIndex(this, getAllWordData());
+        }
+        return dueIndex;
     }
 
     // 단어 추가
@@ -32,39 +323,169 @@ public class WordBook implements Serializable {
         word = word.trim();
         meaning = meaning.trim();
 
-        if (words.containsKey(word)) {
-            return false; // 중복 단어
+        WordData wordData = new WordData(word, meaning);
+        wordData.setWordBook(this);
+        synchronized (this) {
+            if (words.putIfAbsent(word, wordData) != null) {
+                return false; // 중복 단어
+            }
+            addToIndexes(wordData);
         }
+        // 즉시 저장 (단어장 잠금 밖에서 요청)
+        String added = word;
+        changed(() -> discardWord(added));
+        return true;
+    }
 
-        words.put(word, new WordData(word, meaning));
-        // 즉시 저장
-        if (manager != null) {
-            manager.saveData();
+    // 여러 단어를 한 번에 추가하고 저장은 한 번만 요청 (빈 값이나 중복 단어는 건너뜀, 추가된 수 반환)
+    public int addWords(Map<String, String> entries) {
+        List<String> addedWords = new ArrayList<>();
+        synchronized (this) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                String word = entry.getKey();
+                String meaning = entry.getValue();
+                if (word == null || word.trim().isEmpty() ||
+                        meaning == null || meaning.trim().isEmpty()) {
+                    continue;
+                }
+
+                word = word.trim();
+                if (words.containsKey(word)) {
+                    continue; // 중복 단어
+                }
+
+                WordData wordData = new WordData(word, meaning.trim());
+                wordData.setWordBook(this);
+                words.put(word, wordData);
+                addToIndexes(wordData);
+                addedWords.add(word);
+            }
         }
-        return true;
+        if (!addedWords.isEmpty()) {
+            changed(() -> addedWords.forEach(this::discardWord));
+        }
+        return addedWords.size();
+    }
+
+    // 저장소에서 읽은 단어 복원 (저장 요청 없음)
+    synchronized void restoreWordData(WordData wordData) {
+        wordData.setWordBook(this);
+        WordData previous = words.put(wordData.getWord(), wordData);
+        if (previous != null) {
+            removeFromIndexes(previous);
+        }
+        addToIndexes(wordData);
     }
 
     // 단어 삭제
     public boolean removeWord(String word) {
-        boolean removed = words.remove(word) != null;
-        if (removed && manager != null) {
-            manager.saveData();
+        WordData removed;
+        synchronized (this) {
+            removed = words.remove(word);
+            if (removed == null) {
+                return false;
+            }
+            removeFromIndexes(removed);
+        }
+        changed(() -> restoreWordData(removed));
+        return true;
+    }
+
+    private void addToIndexes(WordData wordData) {
+        wordData.position = wordList.size();
+        wordList.add(wordData);
+        statistics.add(wordData.getSharedTotalCount(), wordData.getSharedCorrectCount());
+        learnerWordAdded(wordData.getWord());
+        int id = wordData.position;
+        if (dueIndex != null) {
+            dueIndex.add(id, wordData.getDueTime());
+        }
+        if (accuracyIndex != null) {
+            accuracyIndex.add(id, wordData.getTotalCount(), wordData.getCorrectCount());
+        }
+        if (searchIndex != null) {
+            searchIndex.add(id, wordData.getWord(), wordData.getMeaning());
+        }
+        if (meaningIndex != null) {
+            meaningIndex.add(id, wordData.getMeaning());
+        }
+    }
+
+    // 목록에서는 마지막 단어를 빈 자리로 옮겨서 O(1)에 제거 (색인에서도 옮긴 단어의 번호를 바꿈)
+    private void removeFromIndexes(WordData wordData) {
+        int position = wordData.position;
+        statistics.remove(wordData.getSharedTotalCount(), wordData.getSharedCorrectCount());
+        learnerWordRemoved(wordData.getWord());
+        if (dueIndex != null) {
+            dueIndex.remove(position, wordData.getDueTime());
+        }
+        if (accuracyIndex != null) {
+            accuracyIndex.remove(position, wordData.getTotalCount(), wordData.getCorrectCount());
+        }
+        if (searchIndex != null) {
+            searchIndex.remove(position, wordData.getWord(), wordData.getMeaning());
+        }
+        if (meaningIndex != null) {
+            meaningIndex.remove(position, wordData.getMeaning());
+        }
+
+        WordData last = wordList.remove(wordList.size() - 1);
+        if (last == wordData) {
+            return;
+        }
+        int from = last.position;
+        last.position = position;
+        wordList.set(position, last);
+        if (dueIndex != null) {
+            dueIndex.move(from, position, last.getDueTime());
+        }
+        if (accuracyIndex != null) {
+            accuracyIndex.move(from, position, last.getTotalCount(), last.getCorrectCount());
+        }
+        if (searchIndex != null) {
+            searchIndex.move(from, position, last.getWord(), last.getMeaning());
+        }
+        if (meaningIndex != null) {
+            meaningIndex.move(from, position, last.getMeaning());
+        }
+    }
+
+    // 뜻을 바꾸고 검색 색인과 뜻 색인도 함께 갱신 (되돌릴 때 그새 삭제된 단어면 색인은 그대로)
+    private void changeMeaning(WordData wordData, String meaning) {
+        String oldMeaning = wordData.getMeaning();
+        wordData.setMeaning(meaning);
+        if (words.get(wordData.getWord()) != wordData) {
+            return;
+        }
+        if (searchIndex != null) {
+            searchIndex.remove(wordData.position, wordData.getWord(), oldMeaning);
+            searchIndex.add(wordData.position, wordData.getWord(), meaning);
+        }
+        if (meaningIndex != null) {
+            meaningIndex.remove(wordData.position, oldMeaning);
+            meaningIndex.add(wordData.position, meaning);
         }
-        return removed;
     }
 
     // 단어 수정
     public boolean updateWord(String word, String newMeaning) {
-        WordData wordData = words.get(word);
-        if (wordData != null) {
-            wordData.setMeaning(newMeaning.trim());
-            // 즉시 저장
-            if (manager != null) {
-                manager.saveData();
+        WordData wordData;
+        String oldMeaning;
+        synchronized (this) {
+            wordData = words.get(word);
+            if (wordData == null) {
+                return false;
             }
-            return true;
+            oldMeaning = wordData.getMeaning();
+            changeMeaning(wordData, newMeaning.trim());
         }
-        return false;
+        // 즉시 저장
+        changed(() -> {
+            synchronized (this) {
+                changeMeaning(wordData, oldMeaning);
+            }
+        });
+        return true;
     }
 
     // 단어 검색
@@ -77,13 +498,46 @@ public class WordBook implements Serializable {
         return words.keySet();
     }
 
-    // 랜덤 단어 반환
-    public String getRandomWord() {
-        if (words.isEmpty()) return null;
+    // 랜덤 단어 반환 (목록 복사 없이 O(1))
+    public synchronized String getRandomWord() {
+        int count = getWordCount();
+        if (count == 0) return null;
+        return wordAt(ThreadLocalRandom.current().nextInt(count));
+    }
 
-        List<String> wordList = new ArrayList<>(words.keySet());
-        Random random = new Random();
-        return wordList.get(random.nextInt(wordList.size()));
+    // 서로 다른 단어 k개를 무작위로 추출 (단어 수가 k보다 적으면 전부)
+    public synchronized List<String> sample(int k) {
+        int count = getWordCount();
+        k = Math.max(0, Math.min(k, count));
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // Floyd 알고리즘: 전체를 섞지 않고 번호 k개만 뽑음
+        Set<Integer> chosen = new HashSet<>(k * 2);
+        List<String> result = new ArrayList<>(k);
+        for (int j = count - k; j < count; j++) {
+            int pick = random.nextInt(j + 1);
+            if (!chosen.add(pick)) {
+                pick = j;
+                chosen.add(j);
+            }
+            result.add(wordAt(pick));
+        }
+        Collections.shuffle(result, random); // 뽑힌 순서는 고르게 섞여 있지 않음
+        return result;
+    }
+
+    // 번호로 단어 찾기 (0 <= index < getWordCount())
+    synchronized String wordAt(int index) {
+        return wordList.get(index).getWord();
+    }
+
+    synchronized WordData wordDataAt(int index) {
+        return wordList.get(index);
+    }
+
+    // 번호로 뜻 찾기 (뜻 색인이 항목을 확인할 때 사용)
+    synchronized String meaningAt(int index) {
+        return wordList.get(index).getMeaning();
     }
 
     // 단어 개수 반환
@@ -93,13 +547,12 @@ public class WordBook implements Serializable {
 
     // 통계가 낮은 단어들 반환 (정답률 50% 미만)
     public List<WordData> getLowAccuracyWords() {
-        List<WordData> lowAccuracyWords = new ArrayList<>();
-        for (WordData wordData : words.values()) {
-            if (wordData.getTotalCount() > 0 && wordData.getAccuracy() < 50.0) {
-                lowAccuracyWords.add(wordData);
-            }
-        }
-        return lowAccuracyWords;
+        return getLowAccuracyWords(50.0);
+    }
+
+    // 정답률이 threshold% 미만인 단어들 (정답률 낮은 순)
+    public List<WordData> getLowAccuracyWords(double threshold) {
+        return getAccuracyIndex().getWordsBelow(threshold, Integer.MAX_VALUE);
     }
 
     // 모든 단어 데이터 반환
@@ -110,15 +563,21 @@ public class WordBook implements Serializable {
     // Getters and Setters
     public String getName() { return name; }
     public void setName(String name) {
+        checkNotEditing();
         this.name = name;
         // 이름 변경시에도 즉시 저장
-        if (manager != null) {
-            manager.saveData();
+        requestSave();
+    }
+
+    // 이름 변경은 edit() 밖에서만 (WordBookManager.renameWordBook을 통해서)
+    void checkNotEditing() {
+        if (isEditing()) {
+            throw new IllegalStateException("편집 중에는 단어장 이름을 바꿀 수 없습니다.");
         }
     }
 
     @Override
     public String toString() {
-        return String.format("%s (%d개 단어)", name, words.size());
+        return String.format("%s (%d개 단어)", name, getWordCount());
     }
 }
\ No newline at end of file
@@ -0,0 +1,315 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.CRC32C;
+
+/**
+ * 단어장 전용 이진 형식 인코더/디코더
+ * Java 직렬화 대신 버전이 붙은 길이 접두 형식을 사용
+ *
+ * 형식: [매직][버전][저널 일련번호][단어장 이름][CRC]
+ *       [문자열 개수][문자열 표][CRC]
+ *       [단어 개수]([단어 번호][뜻 번호][출제 횟수][정답 횟수]
+ *                   [난이도 계수][복습 간격][연속 횟수][다음 복습 시각])*[CRC]
+ * 문자열은 UTF-8 바이트 길이 + 내용, 개수와 번호는 가변 길이 정수(varint)
+ * 각 구역 끝의 CRC32C로 손상 여부를 확인 (버전 1은 CRC 없음, 버전 2까지는 복습 정보 없음)
+ */
+public class WordBookCodec {
+    public static final int MAGIC = 0x57504B42; // "WPKB"
+    public static final int VERSION = 3;
+    private static final int RECORD_FIELDS = 7; // 단어 하나당 int 항목 수 (다음 복습 시각 제외)
+
+    private WordBookCodec() {
+    }
+
+    // 파일 전체를 다이렉트 버퍼로 읽어서 디코딩
+    public static WordBookStorage.Shard read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("단어장 파일이 너무 큽니다: " + path);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // 끝까지 읽기
+            }
+            buffer.flip();
+            return decode(buffer);
+        }
+    }
+
+    // 인코딩된 버퍼를 파일에 기록하고 디스크에 동기화 (동기화에 걸린 시간 반환)
+    public static long write(Path path, ByteBuffer data) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer source = data.duplicate();
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+
+            long start = System.nanoTime();
+            channel.force(true);
+            return System.nanoTime() - start;
+        }
+    }
+
+    public static ByteBuffer encode(WordBook wordBook, long sequence) {
+        Map<String, Integer> stringIds;
+        List<byte[]> strings;
+        int[] records;
+        long[] dueTimes;
+        int count = 0;
+
+        // 단어장 잠금 안에서 값만 복사해 두어 저장 중에 단어가 바뀌어도 일관된 스냅샷을 씀
+        synchronized (wordBook) {
+            Collection<WordData> words = wordBook.getAllWordData();
+
+            // 문자열 표 만들기 (같은 뜻은 한 번만 저장)
+            stringIds = new HashMap<>(words.size() * 2);
+            strings = new ArrayList<>(words.size() * 2);
+            records = new int[words.size() * RECORD_FIELDS];
+            dueTimes = new long[words.size()];
+            int position = 0;
+            for (WordData wordData : words) {
+                records[position++] = stringId(wordData.getWord(), stringIds, strings);
+                records[position++] = stringId(wordData.getMeaning(), stringIds, strings);
+                records[position++] = wordData.getSharedTotalCount(); // 학습자별 기록은 프로필 파일에 따로 저장
+                records[position++] = wordData.getSharedCorrectCount();
+                records[position++] = wordData.getSharedEaseFactor();
+                records[position++] = wordData.getSharedInterval();
+                records[position++] = wordData.getSharedRepetitions();
+                dueTimes[count++] = wordData.getSharedDueTime();
+            }
+        }
+
+        Encoder encoder = new Encoder(64 + count * 32);
+        encoder.putInt(MAGIC);
+        encoder.putByte(VERSION);
+        encoder.putLong(sequence);
+        encoder.putBytes(wordBook.getName().getBytes(StandardCharsets.UTF_8));
+        encoder.endSection();
+
+        encoder.putVarint(strings.size());
+        for (byte[] string : strings) {
+            encoder.putBytes(string);
+        }
+        encoder.endSection();
+
+        encoder.putVarint(count);
+        for (int i = 0; i < count; i++) {
+            for (int field = 0; field < RECORD_FIELDS; field++) {
+                encoder.putVarint(records[i * RECORD_FIELDS + field]);
+            }
+            encoder.putVarlong(dueTimes[i]);
+        }
+        encoder.endSection();
+        return encoder.finish();
+    }
+
+    public static WordBookStorage.Shard decode(ByteBuffer buffer) throws IOException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("단어장 형식이 아닙니다.");
+            }
+            int version = buffer.get() & 0xFF;
+            if (version < 1 || version > VERSION) {
+                throw new IOException("지원하지 않는 단어장 형식 버전입니다: " + version);
+            }
+            boolean checked = version >= 2;
+            boolean hasReview = version >= 3;
+
+            long sequence = buffer.getLong();
+            byte[] scratch = new byte[256];
+            String name = getString(buffer, scratch);
+            int sectionStart = verifySection(buffer, 0, checked);
+
+            int stringCount = getVarint(buffer);
+            String[] strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                strings[i] = getString(buffer, scratch);
+            }
+            sectionStart = verifySection(buffer, sectionStart, checked);
+
+            // 단어 구역은 객체를 만들기 전에 먼저 확인
+            if (checked) {
+                int recordCount = getVarint(buffer);
+                for (int i = 0; i < recordCount; i++) {
+                    skipRecord(buffer, hasReview);
+                }
+                verifySection(buffer, sectionStart, true);
+                buffer.position(sectionStart);
+            }
+
+            int wordCount = getVarint(buffer);
+            // 큰 단어장은 단어마다 객체를 만들지 않는 열 단위 단어장으로 읽음
+            WordBook wordBook = wordCount >= ColumnarWordBook.THRESHOLD
+                    ? new ColumnarWordBook(name, wordCount) : new WordBook(name);
+            for (int i = 0; i < wordCount; i++) {
+                WordData wordData = new WordData(strings[getVarint(buffer)], strings[getVarint(buffer)]);
+                wordData.applyCounts(getVarint(buffer), getVarint(buffer));
+                if (hasReview) {
+                    wordData.applyReview(getVarint(buffer), getVarint(buffer), getVarint(buffer), getVarlong(buffer));
+                }
+                wordBook.restoreWordData(wordData);
+            }
+            return new WordBookStorage.Shard(wordBook, sequence);
+        } catch (RuntimeException e) {
+            // BufferUnderflowException, 잘못된 번호 등
+            throw new IOException("단어장 파일이 손상되었습니다: " + e, e);
+        }
+    }
+
+    // 구역 끝의 CRC 확인 후 다음 구역 시작 위치 반환
+    private static int verifySection(ByteBuffer buffer, int sectionStart, boolean checked) throws IOException {
+        if (!checked) {
+            return buffer.position();
+        }
+
+        ByteBuffer section = buffer.duplicate();
+        section.position(sectionStart).limit(buffer.position());
+        CRC32C crc = new CRC32C();
+        crc.update(section);
+        if ((int) crc.getValue() != buffer.getInt()) {
+            throw new IOException("단어장 파일의 체크섬이 일치하지 않습니다.");
+        }
+        return buffer.position();
+    }
+
+    private static void skipRecord(ByteBuffer buffer, boolean hasReview) {
+        int fields = hasReview ? RECORD_FIELDS : 4;
+        for (int field = 0; field < fields; field++) {
+            getVarint(buffer);
+        }
+        if (hasReview) {
+            getVarlong(buffer);
+        }
+    }
+
+    private static int stringId(String value, Map<String, Integer> stringIds, List<byte[]> strings) {
+        Integer id = stringIds.get(value);
+        if (id == null) {
+            id = strings.size();
+            stringIds.put(value, id);
+            strings.add(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return id;
+    }
+
+    private static String getString(ByteBuffer buffer, byte[] scratch) {
+        int length = getVarint(buffer);
+        byte[] bytes = length <= scratch.length ? scratch : new byte[length];
+        buffer.get(bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static int getVarint(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > 28) {
+                throw new IllegalStateException("잘못된 varint");
+            }
+        }
+    }
+
+    private static long getVarlong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IllegalStateException("잘못된 varint");
+            }
+        }
+    }
+
+    // 필요하면 두 배로 커지는 다이렉트 버퍼
+    private static class Encoder {
+        private ByteBuffer buffer;
+        private int sectionStart = 0;
+
+        Encoder(int initialCapacity) {
+            buffer = ByteBuffer.allocateDirect(initialCapacity);
+        }
+
+        void putByte(int value) {
+            ensure(1);
+            buffer.put((byte) value);
+        }
+
+        void putInt(int value) {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) {
+            ensure(8);
+            buffer.putLong(value);
+        }
+
+        void putVarint(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        void putVarlong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        void putBytes(byte[] bytes) {
+            putVarint(bytes.length);
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        // 현재 구역의 CRC를 덧붙이고 새 구역 시작
+        void endSection() {
+            ByteBuffer section = buffer.duplicate();
+            section.flip().position(sectionStart);
+            CRC32C crc = new CRC32C();
+            crc.update(section);
+            putInt((int) crc.getValue());
+            sectionStart = buffer.position();
+        }
+
+        ByteBuffer finish() {
+            buffer.flip();
+            return buffer;
+        }
+
+        private void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+                ByteBuffer larger = ByteBuffer.allocateDirect(capacity);
+                buffer.flip();
+                larger.put(buffer);
+                buffer = larger;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -1,49 +1,109 @@
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * 여러 단어장을 관리하는 클래스
+ * 단어장은 하나씩 따로 저장되며, 처음 선택될 때 로드됨
+ * 학습자를 선택하면 단어장은 그대로 공유하고 출제/정답 횟수와 복습 정보만 학습자별 기록으로 바꿔 씀
  */
 public class WordBookManager {
-    private Map<String, WordBook> wordBooks;
+    private Map<String, WordBookStorage.IndexEntry> index; // 모든 단어장 (이름 → 샤드 정보)
+    private Map<String, WordBook> wordBooks;               // 로드된 단어장
+    private Set<WordBook> dirtyBooks;                      // 마지막 저장 이후 변경된 단어장
+    private Set<Integer> deletedShards;                    // 다음 저장 때 지울 샤드
+    private Set<String> profileNames;                      // 모든 학습자 이름
+    private Map<String, LearnerProfile> profiles;          // 로드된 학습자 프로필
+    private Set<LearnerProfile> dirtyProfiles;             // 마지막 저장 이후 기록이 바뀐 학습자
+    private Set<String> deletedProfiles;                   // 다음 저장 때 지울 학습자
+    private LearnerProfile currentProfile;                 // 선택된 학습자 (null이면 공용 횟수)
+    private int nextShardId;
     private WordBook currentWordBook;
-    private static final String DATA_FILE = "wordbooks.dat";
+    private WordBookStorage storage;
+    private PersistenceQueue persistenceQueue;
+    private StatisticsJournal journal;
+    private final File baseDirectory; // 데이터 파일을 두는 디렉터리 (null이면 현재 디렉터리)
+    private final Object saveTimingLock = new Object();
+    private long totalSaveNanos;
+    private long totalSyncNanos;
+    private int timedSaveCount;
+    private static final String DATA_DIRECTORY = "wordbooks";
+    private static final String LEGACY_DATA_FILE = "wordbooks.dat"; // 이전 버전의 단일 파일
+    private static final String JOURNAL_FILE = "wordbooks.journal";
+    private static final long SAVE_INTERVAL_MILLIS = 2000; // 저장 요청을 모으는 최대 시간
+    private static final int SAVE_THRESHOLD = 50;          // 이만큼 요청이 쌓이면 바로 저장
+    private static final int JOURNAL_COMPACT_THRESHOLD = 1000; // 저널 기록이 이만큼 쌓이면 스냅샷으로 합침
 
     public WordBookManager() {
+        this(SAVE_INTERVAL_MILLIS, SAVE_THRESHOLD);
+    }
+
+    public WordBookManager(long saveIntervalMillis, int saveThreshold) {
+        this(null, saveIntervalMillis, saveThreshold);
+    }
+
+    // 데이터 파일을 현재 디렉터리 대신 baseDirectory에 둠 (테스트용)
+    WordBookManager(File baseDirectory, long saveIntervalMillis, int saveThreshold) {
+        this.baseDirectory = baseDirectory;
+        this.index = new LinkedHashMap<>();
         this.wordBooks = new HashMap<>();
+        this.dirtyBooks = new HashSet<>();
+        this.deletedShards = new HashSet<>();
+        this.profileNames = new TreeSet<>();
+        this.profiles = new HashMap<>();
+        this.dirtyProfiles = new HashSet<>();
+        this.deletedProfiles = new HashSet<>();
+        this.nextShardId = 0;
         this.currentWordBook = null;
+        this.storage = new WordBookStorage(dataFile(DATA_DIRECTORY).getPath());
         loadData();
+        this.persistenceQueue = new PersistenceQueue(this::writeData, saveIntervalMillis, saveThreshold);
     }
 
     // 단어장 생성
-    public boolean createWordBook(String name) {
+    public synchronized boolean createWordBook(String name) {
         if (name == null || name.trim().isEmpty()) {
             return false;
         }
 
         name = name.trim();
-        if (wordBooks.containsKey(name)) {
-            return false; // 중복 이름
+        if (index.containsKey(name) || name.indexOf('\u0000') >= 0) {
+            return false; // 중복 이름, 또는 저널에서 학습자 구분에 쓰는 NUL 문자 포함
         }
 
         WordBook newBook = new WordBook(name);
         newBook.setManager(this); // 매니저 참조 설정
+        index.put(name, new WordBookStorage.IndexEntry(nextShardId++, 0));
         wordBooks.put(name, newBook);
 
         // 즉시 저장
-        saveData();
+        saveData(newBook);
         return true;
     }
 
     // 단어장 삭제
-    public boolean deleteWordBook(String name) {
-        if (wordBooks.remove(name) != null) {
+    public synchronized boolean deleteWordBook(String name) {
+        WordBookStorage.IndexEntry entry = index.remove(name);
+        if (entry != null) {
+            WordBook book = wordBooks.remove(name);
+            if (book != null) {
+                dirtyBooks.remove(book);
+            }
+            deletedShards.add(entry.id);
+            for (String profileName : profileNames) {
+                LearnerProfile profile = loadProfile(profileName);
+                if (profile != null && profile.removeBook(name)) {
+                    dirtyProfiles.add(profile);
+                }
+            }
+
             if (currentWordBook != null && currentWordBook.getName().equals(name)) {
                 currentWordBook = null;
             }
 
             // 즉시 저장
-            saveData();
+            requestSave();
             return true;
         }
         return false;
@@ -56,25 +116,41 @@ public class WordBookManager {
         }
 
         newName = newName.trim();
-        if (wordBooks.containsKey(newName)) {
-            return false; // 새 이름이 이미 존재
+        if (newName.indexOf('\u0000') >= 0) {
+            return false; // 저널에서 단어장과 학습자를 구분하는 문자
         }
+        synchronized (this) {
+            if (index.containsKey(newName)) {
+                return false; // 새 이름이 이미 존재
+            }
 
-        WordBook book = wordBooks.remove(oldName);
-        if (book != null) {
-            book.setName(newName);
-            wordBooks.put(newName, book);
+            WordBook book = loadWordBook(oldName);
+            if (book == null) {
+                return false;
+            }
+            book.checkNotEditing(); // 목록을 바꾸기 전에 거부
 
-            // 즉시 저장
-            saveData();
-            return true;
+            wordBooks.remove(oldName);
+            wordBooks.put(newName, book);
+            index.put(newName, index.remove(oldName));
+            book.setName(newName);
+            for (String profileName : profileNames) {
+                LearnerProfile profile = loadProfile(profileName);
+                if (profile != null && profile.renameBook(oldName, newName)) {
+                    dirtyProfiles.add(profile);
+                }
+            }
+            requestSave();
         }
-        return false;
+
+        // 즉시 저장 (이전 이름으로 남은 저널 기록을 스냅샷에 합침)
+        flush();
+        return true;
     }
 
-    // 단어장 선택
-    public boolean selectWordBook(String name) {
-        WordBook book = wordBooks.get(name);
+    // 단어장 선택 (처음 선택할 때 로드)
+    public synchronized boolean selectWordBook(String name) {
+        WordBook book = loadWordBook(name);
         if (book != null) {
             currentWordBook = book;
             return true;
@@ -82,48 +158,695 @@ public class WordBookManager {
         return false;
     }
 
+    // 단어장의 여러 변경을 묶어서 적용하고 한 번만 저장 (단어장이 없으면 false)
+    public boolean edit(String name, Consumer<? super WordBook> changes) {
+        WordBook book;
+        synchronized (this) {
+            book = loadWordBook(name);
+        }
+        if (book == null) {
+            return false;
+        }
+        book.edit(changes); // 변경 중에 저장을 요청하므로 매니저 잠금 밖에서 실행
+        return true;
+    }
+
+    // 학습자 추가 (학습 기록은 비어 있는 상태로 시작)
+    public synchronized boolean createProfile(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return false;
+        }
+
+        name = name.trim();
+        if (profileNames.contains(name) || name.indexOf('\u0000') >= 0) {
+            return false;
+        }
+
+        LearnerProfile profile = new LearnerProfile(name);
+        profileNames.add(name);
+        profiles.put(name, profile);
+        deletedProfiles.remove(name);
+        dirtyProfiles.add(profile);
+        requestSave();
+        return true;
+    }
+
+    // 학습자 삭제 (선택된 학습자였으면 공용 횟수로 돌아감)
+    public boolean deleteProfile(String name) {
+        Object journalLock = journal != null ? journal : this;
+        synchronized (journalLock) {
+            synchronized (this) {
+                if (!profileNames.remove(name)) {
+                    return false;
+                }
+                LearnerProfile profile = profiles.remove(name);
+                if (profile != null) {
+                    dirtyProfiles.remove(profile);
+                }
+                deletedProfiles.add(name);
+                requestSave();
+
+                if (currentProfile != null && currentProfile.getName().equals(name)) {
+                    currentProfile = null;
+                    for (WordBook book : wordBooks.values()) {
+                        book.setOverlay(null);
+                    }
+                }
+            }
+        }
+
+        // 즉시 저장 (삭제한 학습자의 저널 기록을 정리)
+        flush();
+        return true;
+    }
+
+    // 학습자 선택 (null이면 공용 횟수 사용)
+    // 단어장을 복사하지 않고 로드된 단어장에 학습자의 기록만 연결하므로 학습자의 학습량에 비례하는 시간만 걸림
+    public boolean selectProfile(String name) {
+        Object journalLock = journal != null ? journal : this;
+        synchronized (journalLock) { // 답안 기록 도중에 학습자가 바뀌지 않도록
+            synchronized (this) {
+                LearnerProfile profile = null;
+                if (name != null) {
+                    profile = loadProfile(name);
+                    if (profile == null) {
+                        return false;
+                    }
+                }
+
+                currentProfile = profile;
+                for (WordBook book : wordBooks.values()) {
+                    applyProfile(book);
+                }
+                return true;
+            }
+        }
+    }
+
+    // 선택된 학습자 이름 (공용이면 null)
+    public synchronized String getCurrentProfileName() {
+        return currentProfile != null ? currentProfile.getName() : null;
+    }
+
+    // 모든 학습자 이름 (이름순)
+    public synchronized List<String> getAllProfileNames() {
+        return new ArrayList<>(profileNames);
+    }
+
+    // 현재 단어장을 바꾸지 않고 단어장 가져오기 (처음이면 로드, 없으면 null)
+    public synchronized WordBook getWordBook(String name) {
+        return loadWordBook(name);
+    }
+
+    // 이 단어장이 아직 관리자에 등록되어 있는지 (삭제되었거나 다른 단어장으로 바뀌었으면 false, 로드하지 않음)
+    public synchronized boolean isRegistered(WordBook book) {
+        return book != null && wordBooks.get(book.getName()) == book;
+    }
+
     // 현재 단어장 반환
     public WordBook getCurrentWordBook() {
         return currentWordBook;
     }
 
-    // 모든 단어장 이름 반환
-    public Set<String> getAllWordBookNames() {
-        return wordBooks.keySet();
+    // 모든 단어장 이름 반환 (인덱스만 사용)
+    public synchronized List<String> getAllWordBookNames() {
+        return new ArrayList<>(index.keySet()); // 잠금 밖에서 훑어도 되도록 복사본
     }
 
     // 단어장 개수 반환
-    public int getWordBookCount() {
-        return wordBooks.size();
+    public synchronized int getWordBookCount() {
+        return index.size();
+    }
+
+    // 단어장을 로드하지 않고 단어 개수 반환
+    public synchronized int getWordCount(String name) {
+        WordBook book = wordBooks.get(name);
+        if (book != null) {
+            return book.getWordCount();
+        }
+        WordBookStorage.IndexEntry entry = index.get(name);
+        return entry != null ? entry.wordCount : 0;
+    }
+
+    // 로드된 모든 단어장 저장 요청
+    public synchronized void saveData() {
+        dirtyBooks.addAll(wordBooks.values());
+        requestSave();
+    }
+
+    // 변경된 단어장 저장 요청 (백그라운드 스레드에서 모아서 저장)
+    public synchronized void saveData(WordBook book) {
+        if (wordBooks.get(book.getName()) == book) {
+            dirtyBooks.add(book);
+        }
+        requestSave();
+    }
+
+    // 대기 중인 저장 요청을 즉시 처리
+    public void flush() {
+        persistenceQueue.flush();
+    }
+
+    // 프로그램 종료 시 호출 - 남은 데이터를 저장하고 저장 스레드 종료
+    public void shutdown() {
+        // 남은 저널 기록은 종료 시 스냅샷으로 합침
+        synchronized (this) {
+            if (!dirtyBooks.isEmpty() || !dirtyProfiles.isEmpty()) {
+                requestSave();
+            }
+        }
+        persistenceQueue.shutdown();
+        if (journal != null) {
+            journal.close();
+        }
+
+        synchronized (this) {
+            for (WordBook book : wordBooks.values()) {
+                if (book instanceof MappedWordBook) {
+                    ((MappedWordBook) book).force();
+                }
+            }
+        }
+    }
+
+    // 큰 단어장을 메모리 맵 형식으로 변환 (이후 단어 추가/삭제/수정 불가)
+    public boolean convertToMappedWordBook(String name) {
+        WordBook book;
+        synchronized (this) {
+            book = loadWordBook(name);
+        }
+        if (book == null || book instanceof MappedWordBook) {
+            return false;
+        }
+
+        Object journalLock = journal != null ? journal : this;
+        synchronized (journalLock) {
+            synchronized (this) {
+                WordBookStorage.IndexEntry entry = index.get(name);
+                if (entry == null || wordBooks.get(name) != book) {
+                    return false;
+                }
+
+                try {
+                    long sequence = journal != null ? journal.getLastSequence() : 0;
+                    MappedWordBook mapped = storage.writeMappedShard(entry.id, book, sequence);
+                    mapped.setManager(this);
+                    applyProfile(mapped);
+                    book.setManager(null); // 이전 객체의 변경은 더 이상 기록하지 않음
+
+                    wordBooks.put(name, mapped);
+                    dirtyBooks.remove(book);
+                    if (currentWordBook == book) {
+                        currentWordBook = mapped;
+                    }
+                    System.out.println("단어장 '" + name + "'을(를) 메모리 맵 형식으로 변환했습니다.");
+                    return true;
+                } catch (IOException e) {
+                    System.err.println("단어장 변환 중 오류 발생: " + e.getMessage());
+                    return false;
+                }
+            }
+        }
+    }
+
+    // 저장 요청 횟수
+    public long getSaveRequestCount() {
+        return persistenceQueue.getRequestedCount();
+    }
+
+    // 실제 저장 횟수
+    public long getSavePerformedCount() {
+        return persistenceQueue.getPerformedCount();
+    }
+
+    // 저장 한 번에 걸린 평균 시간 (ms)
+    public double getAverageSaveMillis() {
+        synchronized (saveTimingLock) {
+            return timedSaveCount > 0 ? totalSaveNanos / 1_000_000.0 / timedSaveCount : 0.0;
+        }
+    }
+
+    // 저장 한 번당 안전 저장(fsync, 세대 보관, 원자적 교체)으로 늘어난 평균 시간 (ms)
+    public double getAverageSyncMillis() {
+        synchronized (saveTimingLock) {
+            return timedSaveCount > 0 ? totalSyncNanos / 1_000_000.0 / timedSaveCount : 0.0;
+        }
+    }
+
+    // 단어 통계 변경 기록 (답안 하나당 저널에 한 건만 추가)
+    void recordStatistics(WordBook book, WordData wordData, int totalDelta, int correctDelta) {
+        if (journal == null) {
+            synchronized (this) {
+                book.applyCounts(wordData, totalDelta, correctDelta);
+                markStatisticsDirty(book);
+            }
+            requestSave();
+            return;
+        }
+
+        boolean needsCompaction;
+        synchronized (journal) {
+            book.applyCounts(wordData, totalDelta, correctDelta);
+            try {
+                journal.append(book.getName(), profileName(book), wordData.getWord(), totalDelta, correctDelta);
+            } catch (IOException e) {
+                System.err.println("통계 기록 중 오류 발생: " + e.getMessage());
+                saveStatistics(book);
+                return;
+            }
+            synchronized (this) {
+                markStatisticsDirty(book);
+            }
+            needsCompaction = journal.getRecordCount() >= JOURNAL_COMPACT_THRESHOLD;
+        }
+
+        if (needsCompaction) {
+            requestSave();
+        }
+    }
+
+    // 여러 통계 변경을 묶어서 기록 (저널 잠금은 한 번만 잡고 파일 쓰기도 묶음 끝에 한 번만 함)
+    public void batchStatistics(Runnable changes) {
+        if (journal == null) {
+            changes.run();
+            return;
+        }
+
+        synchronized (journal) {
+            journal.beginBatch();
+            try {
+                changes.run();
+            } finally {
+                try {
+                    journal.endBatch();
+                } catch (IOException e) {
+                    // 메모리에는 반영되었으므로 스냅샷으로 저장
+                    System.err.println("통계 기록 중 오류 발생: " + e.getMessage());
+                    saveData();
+                }
+            }
+        }
+    }
+
+    // 복습 정보 변경 - 통계와 같은 저널에 기록
+    void recordReview(WordBook book, WordData wordData, int easeFactor, int interval, int repetitions, long dueTime) {
+        if (journal == null) {
+            synchronized (this) {
+                book.applyReview(wordData, easeFactor, interval, repetitions, dueTime);
+                markStatisticsDirty(book);
+            }
+            requestSave();
+            return;
+        }
+
+        boolean needsCompaction;
+        synchronized (journal) {
+            book.applyReview(wordData, easeFactor, interval, repetitions, dueTime);
+            try {
+                journal.appendReview(book.getName(), profileName(book), wordData.getWord(),
+                        easeFactor, interval, repetitions, dueTime);
+            } catch (IOException e) {
+                System.err.println("복습 기록 중 오류 발생: " + e.getMessage());
+                saveStatistics(book);
+                return;
+            }
+            synchronized (this) {
+                markStatisticsDirty(book);
+            }
+            needsCompaction = journal.getRecordCount() >= JOURNAL_COMPACT_THRESHOLD;
+        }
+
+        if (needsCompaction) {
+            requestSave();
+        }
+    }
+
+    // 기록이 바뀐 쪽(학습자 또는 단어장)을 다음 저장 대상으로 표시
+    private void markStatisticsDirty(WordBook book) {
+        StatisticsOverlay overlay = book.getOverlay();
+        if (overlay == null) {
+            dirtyBooks.add(book);
+        } else if (profiles.get(overlay.getProfile().getName()) == overlay.getProfile()) {
+            dirtyProfiles.add(overlay.getProfile());
+        }
+    }
+
+    private synchronized void saveStatistics(WordBook book) {
+        markStatisticsDirty(book);
+        requestSave();
+    }
+
+    // 저널에 함께 기록할 학습자 이름 (공용 횟수면 null)
+    private static String profileName(WordBook book) {
+        StatisticsOverlay overlay = book.getOverlay();
+        return overlay != null ? overlay.getProfile().getName() : null;
+    }
+
+    // 로드된 단어장에 선택된 학습자의 기록 연결
+    private void applyProfile(WordBook book) {
+        book.setOverlay(currentProfile != null ? currentProfile.getOverlay(book.getName()) : null);
     }
 
-    // 데이터 저장
-    public void saveData() {
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(DATA_FILE))) {
-            oos.writeObject(wordBooks);
+    // 학습자 프로필 로드 (이미 로드되어 있으면 그대로 반환)
+    private LearnerProfile loadProfile(String name) {
+        LearnerProfile profile = profiles.get(name);
+        if (profile != null || !profileNames.contains(name)) {
+            return profile;
+        }
+
+        try {
+            profile = storage.readProfile(name);
+            profiles.put(name, profile);
+            System.out.println("학습자 '" + name + "'을(를) 로드했습니다.");
+            return profile;
+        } catch (IOException e) {
+            System.err.println("학습자 로드 중 오류 발생: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void requestSave() {
+        // 생성자에서 이전 데이터를 옮기는 동안에는 큐가 아직 없음
+        if (persistenceQueue != null) {
+            persistenceQueue.requestSave();
+        }
+    }
+
+    // 단어장 로드 (이미 로드되어 있으면 그대로 반환)
+    private WordBook loadWordBook(String name) {
+        WordBook book = wordBooks.get(name);
+        if (book == null) {
+            WordBookStorage.Shard shard = readShard(name);
+            if (shard != null) {
+                book = shard.wordBook;
+            }
+        }
+        return book;
+    }
+
+    private WordBookStorage.Shard readShard(String name) {
+        WordBookStorage.IndexEntry entry = index.get(name);
+        if (entry == null) {
+            return null;
+        }
+
+        try {
+            WordBookStorage.Shard shard = storage.readShard(entry.id, name);
+            shard.wordBook.setManager(this);
+            wordBooks.put(name, shard.wordBook);
+            if (currentProfile != null) {
+                applyProfile(shard.wordBook);
+            }
+            System.out.println("단어장 '" + name + "'을(를) 로드했습니다.");
+            return shard;
+        } catch (IOException e) {
+            System.err.println("단어장 로드 중 오류 발생: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // 실제 파일 쓰기 (저장 스레드에서 호출) - 변경된 단어장과 인덱스만 다시 씀
+    private void writeData() {
+        long startTime = System.nanoTime();
+        long startSyncNanos = storage.getSyncNanos();
+        long snapshotSequence = 0;
+        Map<Integer, ByteBuffer> shards = new HashMap<>();
+        Map<String, byte[]> profileData = new HashMap<>();
+        List<WordBook> writtenBooks;
+        List<LearnerProfile> writtenProfiles;
+        Set<Integer> removedShards;
+        Set<String> removedProfiles;
+        byte[] indexData;
+
+        // 직렬화는 잠금 안에서 메모리로 먼저 끝내고, 파일 쓰기는 잠금 밖에서 함
+        Object journalLock = journal != null ? journal : this;
+        synchronized (journalLock) {
+            synchronized (this) {
+                if (journal != null) {
+                    snapshotSequence = journal.getLastSequence();
+                }
+
+                List<WordBook> deferredBooks = new ArrayList<>();
+                try {
+                    for (WordBook book : dirtyBooks) {
+                        WordBookStorage.IndexEntry entry = index.get(book.getName());
+                        if (entry == null) continue; // 삭제된 단어장
+                        if (book instanceof MappedWordBook) {
+                            entry.wordCount = book.getWordCount();
+                            ((MappedWordBook) book).force(); // 횟수는 이미 파일에 기록됨
+                            continue;
+                        }
+                        // edit() 도중의 반쯤 바뀐 단어장은 쓰지 않고 edit가 끝날 때 다시 저장 요청
+                        // (확인과 직렬화 사이에 edit가 시작되지 않도록 단어장 잠금 안에서)
+                        synchronized (book) {
+                            if (book.deferSaveIfEditing()) {
+                                deferredBooks.add(book);
+                                continue;
+                            }
+                            entry.wordCount = book.getWordCount();
+                            shards.put(entry.id, storage.encodeShard(book, snapshotSequence));
+                        }
+                    }
+                    for (LearnerProfile profile : dirtyProfiles) {
+                        profileData.put(profile.getName(), profile.encode(snapshotSequence));
+                    }
+                    indexData = storage.encodeIndex(index, snapshotSequence);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("데이터 저장 중 오류 발생", e);
+                }
+
+                writtenBooks = new ArrayList<>(dirtyBooks);
+                writtenProfiles = new ArrayList<>(dirtyProfiles);
+                removedShards = new HashSet<>(deletedShards);
+                removedProfiles = new HashSet<>(deletedProfiles);
+                dirtyBooks.clear();
+                dirtyProfiles.clear();
+                deletedShards.clear();
+                deletedProfiles.clear();
+                writtenBooks.removeAll(deferredBooks);
+                dirtyBooks.addAll(deferredBooks);
+            }
+        }
+
+        try {
+            for (Map.Entry<Integer, ByteBuffer> shard : shards.entrySet()) {
+                storage.writeShard(shard.getKey(), shard.getValue());
+            }
+            for (Map.Entry<String, byte[]> profile : profileData.entrySet()) {
+                storage.writeProfile(profile.getKey(), profile.getValue());
+            }
+            storage.writeIndex(indexData);
+            for (int id : removedShards) {
+                storage.deleteShard(id);
+            }
+            for (String name : removedProfiles) {
+                storage.deleteProfile(name);
+            }
+
+            // 저장 시간 측정 (그중 fsync/세대 보관/이름 변경이 안전 저장으로 늘어난 시간)
+            long elapsed = System.nanoTime() - startTime;
+            long syncElapsed = storage.getSyncNanos() - startSyncNanos;
+            synchronized (saveTimingLock) {
+                totalSaveNanos += elapsed;
+                totalSyncNanos += syncElapsed;
+                timedSaveCount++;
+            }
             System.out.println("데이터가 저장되었습니다.");
         } catch (IOException e) {
-            System.err.println("데이터 저장 중 오류 발생: " + e.getMessage());
+            // 실패한 변경분은 다음 저장 때 다시 시도
+            synchronized (this) {
+                for (WordBook book : writtenBooks) {
+                    if (wordBooks.get(book.getName()) == book) {
+                        dirtyBooks.add(book);
+                    }
+                }
+                for (LearnerProfile profile : writtenProfiles) {
+                    if (profiles.get(profile.getName()) == profile) {
+                        dirtyProfiles.add(profile);
+                    }
+                }
+                deletedShards.addAll(removedShards);
+                for (String name : removedProfiles) {
+                    if (!profileNames.contains(name)) {
+                        deletedProfiles.add(name);
+                    }
+                }
+            }
+            throw new UncheckedIOException("데이터 저장 중 오류 발생", e);
+        }
+
+        // 스냅샷에 합쳐진 저널 기록 정리
+        if (journal != null) {
+            try {
+                journal.compact(snapshotSequence);
+            } catch (IOException e) {
+                System.err.println("저널 정리 중 오류 발생: " + e.getMessage());
+            }
         }
     }
 
-    // 데이터 로드
-    @SuppressWarnings("unchecked")
+    // 데이터 로드 (인덱스만 읽고 단어장은 선택될 때 로드)
     private void loadData() {
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(DATA_FILE))) {
-            wordBooks = (Map<String, WordBook>) ois.readObject();
+        long snapshotSequence = 0;
+        boolean migrated = false;
 
-            // 로드된 단어장들에 매니저 참조 설정
-            for (WordBook wordBook : wordBooks.values()) {
+        if (storage.exists()) {
+            try {
+                WordBookStorage.Index storedIndex = storage.readIndex();
+                if (storedIndex.legacyFormat) {
+                    storage.migrateLegacyShards(storedIndex);
+                }
+                index.putAll(storedIndex.entries);
+                snapshotSequence = storedIndex.sequence;
+                for (WordBookStorage.IndexEntry entry : index.values()) {
+                    nextShardId = Math.max(nextShardId, entry.id + 1);
+                }
+                System.out.println("데이터가 로드되었습니다.");
+            } catch (IOException e) {
+                System.err.println("데이터 로드 중 오류 발생: " + e.getMessage());
+                System.out.println("새로 시작합니다.");
+            }
+        } else if (dataFile(LEGACY_DATA_FILE).exists()) {
+            snapshotSequence = loadLegacyData();
+            migrated = snapshotSequence >= 0;
+            snapshotSequence = Math.max(0, snapshotSequence);
+        } else {
+            System.out.println("저장된 데이터 파일이 없습니다. 새로 시작합니다.");
+        }
+        profileNames.addAll(storage.listProfiles());
+
+        replayJournal(snapshotSequence, migrated);
+
+        if (migrated) {
+            migrateLegacyData();
+        }
+    }
+
+    private File dataFile(String name) {
+        return baseDirectory != null ? new File(baseDirectory, name) : new File(name);
+    }
+
+    // 이전 버전의 단일 파일(wordbooks.dat)에서 모든 단어장 로드 (실패 시 -1)
+    @SuppressWarnings("unchecked")
+    private long loadLegacyData() {
+        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(dataFile(LEGACY_DATA_FILE)))) {
+            Map<String, WordBook> legacyBooks = (Map<String, WordBook>) ois.readObject();
+            long sequence = readSnapshotSequence(ois);
+
+            for (WordBook wordBook : legacyBooks.values()) {
                 wordBook.setManager(this);
+                index.put(wordBook.getName(), new WordBookStorage.IndexEntry(nextShardId++, wordBook.getWordCount()));
+                wordBooks.put(wordBook.getName(), wordBook);
+                dirtyBooks.add(wordBook);
             }
 
             System.out.println("데이터가 로드되었습니다.");
-        } catch (FileNotFoundException e) {
-            System.out.println("저장된 데이터 파일이 없습니다. 새로 시작합니다.");
+            return sequence;
         } catch (IOException | ClassNotFoundException e) {
             System.err.println("데이터 로드 중 오류 발생: " + e.getMessage());
             System.out.println("새로 시작합니다.");
+            return -1;
         }
     }
+
+    // 이전 형식의 파일에는 저널 일련번호가 없음
+    private long readSnapshotSequence(ObjectInputStream ois) throws IOException {
+        try {
+            return ois.readLong();
+        } catch (EOFException e) {
+            return 0;
+        }
+    }
+
+    // 단일 파일을 단어장별 파일로 옮기고 원본은 백업으로 남김
+    private void migrateLegacyData() {
+        try {
+            writeData();
+            File legacyFile = dataFile(LEGACY_DATA_FILE);
+            if (legacyFile.renameTo(dataFile(LEGACY_DATA_FILE + ".bak"))) {
+                System.out.println("기존 데이터를 단어장별 파일로 옮겼습니다.");
+            }
+        } catch (UncheckedIOException e) {
+            System.err.println("데이터 변환 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    // 스냅샷 이후에 기록된 통계 변경분 적용
+    // 저널에 기록이 남은 단어장은 바로 로드해서 다음 저장 때 함께 기록되도록 함
+    private void replayJournal(long snapshotSequence, boolean legacyLoaded) {
+        try {
+            journal = new StatisticsJournal(dataFile(JOURNAL_FILE).getPath());
+            journal.advanceSequence(snapshotSequence);
+
+            Map<String, Long> bookSequences = new HashMap<>();
+            int replayed = 0;
+            for (StatisticsJournal.Entry entry : journal.readEntries()) {
+                if (entry.profile != null) {
+                    if (replayProfileEntry(entry)) {
+                        replayed++;
+                    }
+                    continue;
+                }
+
+                Long bookSequence = bookSequences.get(entry.bookName);
+                if (bookSequence == null) {
+                    if (legacyLoaded) {
+                        bookSequence = snapshotSequence;
+                    } else {
+                        WordBookStorage.Shard shard = wordBooks.containsKey(entry.bookName) ? null : readShard(entry.bookName);
+                        bookSequence = shard != null ? shard.sequence : Long.MAX_VALUE;
+                    }
+                    bookSequences.put(entry.bookName, bookSequence);
+                }
+                if (entry.sequence <= bookSequence) continue;
+
+                WordBook book = wordBooks.get(entry.bookName);
+                WordData wordData = book != null ? book.getWordData(entry.word) : null;
+                if (wordData != null) {
+                    book.applyCounts(wordData, entry.totalDelta, entry.correctDelta);
+                    if (entry.review) {
+                        book.applyReview(wordData, entry.easeFactor, entry.interval, entry.repetitions, entry.dueTime);
+                    }
+                    dirtyBooks.add(book);
+                    replayed++;
+                }
+            }
+
+            if (replayed > 0) {
+                System.out.println("저널에서 통계 " + replayed + "건을 복구했습니다.");
+            }
+        } catch (IOException e) {
+            System.err.println("저널 로드 중 오류 발생: " + e.getMessage());
+            journal = null;
+        }
+    }
+
+    // 학습자 기록 하나를 학습자 프로필에 적용 (프로필 파일에 이미 반영된 기록은 건너뜀)
+    private boolean replayProfileEntry(StatisticsJournal.Entry entry) {
+        if (!index.containsKey(entry.bookName)) {
+            return false; // 삭제된 단어장
+        }
+
+        LearnerProfile profile = loadProfile(entry.profile);
+        if (profile == null) {
+            if (profileNames.contains(entry.profile)) {
+                return false; // 파일을 읽지 못한 학습자
+            }
+            // 추가한 뒤 프로필 파일을 쓰기 전에 종료된 학습자
+            profile = new LearnerProfile(entry.profile);
+            profileNames.add(entry.profile);
+            profiles.put(entry.profile, profile);
+        }
+        if (entry.sequence <= profile.getSequence()) {
+            return false;
+        }
+
+        StatisticsOverlay overlay = profile.getOverlay(entry.bookName);
+        overlay.applyCounts(entry.word, entry.totalDelta, entry.correctDelta);
+        if (entry.review) {
+            overlay.applyReview(entry.word, entry.easeFactor, entry.interval, entry.repetitions, entry.dueTime);
+        }
+        dirtyProfiles.add(profile);
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+/**
+ * 단어장 전체 통계 집계
+ * 단어 추가/삭제와 출제/정답 횟수가 바뀔 때마다 함께 갱신되어 전체를 다시 훑지 않고 O(1)로 조회
+ * 다른 스레드(대시보드 등)에서 읽을 때는 snapshot()으로 한 시점의 값을 복사해서 사용
+ */
+public class WordBookStatistics {
+    private int wordCount;        // 단어 수
+    private long totalQuestions;  // 총 출제 횟수
+    private long totalCorrect;    // 총 정답 횟수
+    private int excellentCount;   // 우수 (정답률 80% 이상)
+    private int normalCount;      // 보통 (정답률 50% 이상)
+    private int weakCount;        // 취약 (정답률 50% 미만)
+    private int unaskedCount;     // 미출제
+
+    WordBookStatistics() {
+    }
+
+    private WordBookStatistics(WordBookStatistics source) {
+        this.wordCount = source.wordCount;
+        this.totalQuestions = source.totalQuestions;
+        this.totalCorrect = source.totalCorrect;
+        this.excellentCount = source.excellentCount;
+        this.normalCount = source.normalCount;
+        this.weakCount = source.weakCount;
+        this.unaskedCount = source.unaskedCount;
+    }
+
+    synchronized void add(int total, int correct) {
+        wordCount++;
+        totalQuestions += total;
+        totalCorrect += correct;
+        changeStatusCount(total, correct, 1);
+    }
+
+    // 출제된 적 없는 단어 count개 추가
+    synchronized void addUnasked(int count) {
+        wordCount += count;
+        unaskedCount += count;
+    }
+
+    synchronized void remove(int total, int correct) {
+        wordCount--;
+        totalQuestions -= total;
+        totalCorrect -= correct;
+        changeStatusCount(total, correct, -1);
+    }
+
+    // 단어 하나의 횟수가 바뀜 (total, correct는 바뀌기 전 값)
+    synchronized void update(int total, int correct, int totalDelta, int correctDelta) {
+        totalQuestions += totalDelta;
+        totalCorrect += correctDelta;
+        changeStatusCount(total, correct, -1);
+        changeStatusCount(total + totalDelta, correct + correctDelta, 1);
+    }
+
+    // 현재 값의 복사본
+    public synchronized WordBookStatistics snapshot() {
+        return new WordBookStatistics(this);
+    }
+
+    private void changeStatusCount(int total, int correct, int delta) {
+        if (total == 0) {
+            unaskedCount += delta;
+            return;
+        }
+
+        double accuracy = (double) correct / total * 100.0;
+        if (accuracy >= 80) {
+            excellentCount += delta;
+        } else if (accuracy >= 50) {
+            normalCount += delta;
+        } else {
+            weakCount += delta;
+        }
+    }
+
+    // 전체 정답률 (출제된 적이 없으면 0)
+    public synchronized double getAverageAccuracy() {
+        return totalQuestions > 0 ? (double) totalCorrect / totalQuestions * 100.0 : 0.0;
+    }
+
+    // Getters
+    public synchronized int getWordCount() { return wordCount; }
+    public synchronized long getTotalQuestions() { return totalQuestions; }
+    public synchronized long getTotalCorrect() { return totalCorrect; }
+    public synchronized int getExcellentCount() { return excellentCount; }
+    public synchronized int getNormalCount() { return normalCount; }
+    public synchronized int getWeakCount() { return weakCount; }
+    public synchronized int getUnaskedCount() { return unaskedCount; }
+}
\ No newline at end of file
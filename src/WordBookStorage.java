@@ -0,0 +1,407 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+
+/**
+ * 단어장별 분할 저장소
+ * 단어장마다 파일(샤드) 하나와, 이름과 단어 수만 담은 작은 인덱스 파일로 구성
+ * 학습자 프로필은 학습자마다 파일 하나(profile-<이름>.dat)에 따로 저장
+ *
+ * 모든 파일은 임시 파일에 쓰고 fsync 한 뒤 원자적으로 이름을 바꿔 교체하며,
+ * 이전 세대(.1, .2)를 남겨 두어 현재 파일이 손상되면 자동으로 이전 세대를 읽음
+ */
+public class WordBookStorage {
+    private static final String INDEX_FILE = "index.dat";
+    private static final int INDEX_MAGIC = 0x57504958; // "WPIX"
+    private static final int INDEX_VERSION = 2;        // 2: 끝에 CRC 추가
+    private static final int LEGACY_MAGIC = 0xACED0005; // Java 직렬화 스트림 헤더
+    private static final int GENERATIONS = 2;           // 보관할 이전 세대 수
+    private static final String PROFILE_PREFIX = "profile-";
+    private static final String PROFILE_SUFFIX = ".dat";
+
+    private final File directory;
+    private final AtomicLong syncNanos = new AtomicLong(); // fsync, 세대 보관, 이름 변경에 쓴 시간
+
+    // 인덱스 항목 (단어장을 로드하지 않고도 알 수 있는 정보)
+    public static class IndexEntry {
+        public final int id;       // 샤드 파일 번호
+        public int wordCount;      // 마지막 저장 시점의 단어 개수
+
+        public IndexEntry(int id, int wordCount) {
+            this.id = id;
+            this.wordCount = wordCount;
+        }
+    }
+
+    // 인덱스 파일 내용
+    public static class Index {
+        public final Map<String, IndexEntry> entries;
+        public final long sequence;   // 마지막 저장에 반영된 저널 일련번호
+        public final boolean legacyFormat; // 단어장 파일이 Java 직렬화 형식인 이전 버전
+
+        Index(Map<String, IndexEntry> entries, long sequence, boolean legacyFormat) {
+            this.entries = entries;
+            this.sequence = sequence;
+            this.legacyFormat = legacyFormat;
+        }
+    }
+
+    // 샤드 파일 내용
+    public static class Shard {
+        public final WordBook wordBook;
+        public final long sequence;   // 이 샤드에 반영된 저널 일련번호
+
+        Shard(WordBook wordBook, long sequence) {
+            this.wordBook = wordBook;
+            this.sequence = sequence;
+        }
+    }
+
+    // 파일 하나를 읽는 방법
+    private interface Reader<T> {
+        T read(File file) throws IOException;
+    }
+
+    public WordBookStorage(String directoryName) {
+        this.directory = new File(directoryName);
+    }
+
+    // 분할 저장소가 이미 만들어져 있는지 확인
+    public boolean exists() {
+        File indexFile = new File(directory, INDEX_FILE);
+        for (int generation = 0; generation <= GENERATIONS; generation++) {
+            if (generationFile(indexFile, generation).exists()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 지금까지 안전 저장(fsync, 세대 보관, 이름 변경)에 쓴 시간
+    public long getSyncNanos() {
+        return syncNanos.get();
+    }
+
+    // 인덱스 읽기 (단어장 내용은 읽지 않음)
+    public Index readIndex() throws IOException {
+        return readWithFallback(new File(directory, INDEX_FILE),
+                file -> parseIndex(Files.readAllBytes(file.toPath())));
+    }
+
+    private Index parseIndex(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            // 이전 버전의 인덱스는 매직 없이 일련번호로 시작
+            int header = in.readInt();
+            boolean legacyFormat = header != INDEX_MAGIC;
+            long sequence;
+            if (legacyFormat) {
+                sequence = ((long) header << 32) | (in.readInt() & 0xFFFFFFFFL);
+            } else {
+                int version = in.readInt();
+                if (version > INDEX_VERSION) {
+                    throw new IOException("지원하지 않는 인덱스 버전입니다: " + version);
+                }
+                if (version >= 2) {
+                    verifyChecksum(data, data.length - 4);
+                }
+                sequence = in.readLong();
+            }
+            int count = in.readInt();
+
+            Map<String, IndexEntry> entries = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                int id = in.readInt();
+                String name = in.readUTF();
+                int wordCount = in.readInt();
+                entries.put(name, new IndexEntry(id, wordCount));
+            }
+            return new Index(entries, sequence, legacyFormat);
+        } catch (EOFException e) {
+            throw new IOException("인덱스 파일이 손상되었습니다.", e);
+        }
+    }
+
+    // 인덱스 형식: [매직][버전][저널 일련번호][항목 수]([샤드 번호][이름][단어 수])*[CRC]
+    public byte[] encodeIndex(Map<String, IndexEntry> entries, long sequence) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(INDEX_VERSION);
+            out.writeLong(sequence);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, IndexEntry> entry : entries.entrySet()) {
+                out.writeInt(entry.getValue().id);
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().wordCount);
+            }
+
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.toByteArray());
+            out.writeInt((int) crc.getValue());
+        }
+        return buffer.toByteArray();
+    }
+
+    public void writeIndex(byte[] data) throws IOException {
+        writeFile(new File(directory, INDEX_FILE), data);
+    }
+
+    // 학습자 프로필 하나 읽기
+    public LearnerProfile readProfile(String name) throws IOException {
+        return readWithFallback(profileFile(name), file -> LearnerProfile.decode(Files.readAllBytes(file.toPath())));
+    }
+
+    public void writeProfile(String name, byte[] data) throws IOException {
+        writeFile(profileFile(name), data);
+    }
+
+    public void deleteProfile(String name) {
+        for (int generation = 0; generation <= GENERATIONS; generation++) {
+            File file = generationFile(profileFile(name), generation);
+            if (file.exists() && !file.delete()) {
+                System.err.println("학습자 파일 삭제 실패: " + file.getName());
+            }
+        }
+    }
+
+    // 저장된 학습자 이름 목록 (파일 이름에서 읽으므로 프로필 내용은 읽지 않음)
+    public List<String> listProfiles() {
+        List<String> names = new ArrayList<>();
+        String[] files = directory.list();
+        if (files == null) {
+            return names;
+        }
+        for (String file : files) {
+            if (file.startsWith(PROFILE_PREFIX) && file.endsWith(PROFILE_SUFFIX)) {
+                String hex = file.substring(PROFILE_PREFIX.length(), file.length() - PROFILE_SUFFIX.length());
+                String name = decodeHex(hex);
+                if (name != null) {
+                    names.add(name);
+                }
+            }
+        }
+        Collections.sort(names);
+        return names;
+    }
+
+    // 단어장 하나 읽기 (메모리 맵 단어장은 이름을 파일 대신 인덱스에서 가져옴)
+    public Shard readShard(int id, String name) throws IOException {
+        return readWithFallback(shardFile(id), file -> readShardFile(file, name));
+    }
+
+    private Shard readShardFile(File file, String name) throws IOException {
+        Path path = file.toPath();
+        int magic = readMagic(path);
+        if (magic == WordBookCodec.MAGIC) {
+            return WordBookCodec.read(path);
+        }
+        if (magic == MappedWordBook.MAGIC) {
+            MappedWordBook wordBook = MappedWordBook.open(path, name);
+            return new Shard(wordBook, wordBook.getSequence());
+        }
+        return readLegacyShard(file); // 아직 변환되지 않은 파일
+    }
+
+    public ByteBuffer encodeShard(WordBook wordBook, long sequence) {
+        return WordBookCodec.encode(wordBook, sequence);
+    }
+
+    public void writeShard(int id, ByteBuffer data) throws IOException {
+        ensureDirectory();
+        File target = shardFile(id);
+        File temp = tempFile(target);
+        syncNanos.addAndGet(WordBookCodec.write(temp.toPath(), data));
+        commit(temp, target);
+    }
+
+    // 단어장을 메모리 맵 형식으로 다시 쓰고 매핑해서 열기
+    public MappedWordBook writeMappedShard(int id, WordBook wordBook, long sequence) throws IOException {
+        ensureDirectory();
+        File target = shardFile(id);
+        File temp = tempFile(target);
+        synchronized (wordBook) { // 쓰는 동안 단어가 바뀌지 않도록
+            MappedWordBook.write(temp.toPath(), wordBook.getAllWordData(), sequence);
+        }
+        commit(temp, target);
+        return MappedWordBook.open(target.toPath(), wordBook.getName());
+    }
+
+    // 이전 형식(Java 직렬화)의 단어장 파일을 모두 새 형식으로 변환 (한 번만 수행)
+    public void migrateLegacyShards(Index index) throws IOException {
+        int converted = 0;
+        for (IndexEntry entry : index.entries.values()) {
+            File file = shardFile(entry.id);
+            if (!file.exists() || readMagic(file.toPath()) != LEGACY_MAGIC) {
+                continue;
+            }
+            Shard shard = readLegacyShard(file);
+            writeShard(entry.id, WordBookCodec.encode(shard.wordBook, shard.sequence));
+            converted++;
+        }
+        writeIndex(encodeIndex(index.entries, index.sequence));
+        System.out.println("단어장 파일 " + converted + "개를 새 형식으로 변환했습니다.");
+    }
+
+    private Shard readLegacyShard(File file) throws IOException {
+        try (ObjectInputStream ois = new ObjectInputStream(new BufferedInputStream(
+                new FileInputStream(file)))) {
+            WordBook wordBook = (WordBook) ois.readObject();
+            long sequence = ois.readLong();
+            return new Shard(wordBook, sequence);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("단어장 형식을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    public void deleteShard(int id) {
+        for (int generation = 0; generation <= GENERATIONS; generation++) {
+            File file = generationFile(shardFile(id), generation);
+            if (file.exists() && !file.delete()) {
+                System.err.println("단어장 파일 삭제 실패: " + file.getName());
+            }
+        }
+    }
+
+    private File shardFile(int id) {
+        return new File(directory, "book-" + id + ".dat");
+    }
+
+    // 학습자 이름은 파일 이름에 쓸 수 없는 문자를 포함할 수 있으므로 UTF-8 바이트의 16진수로 저장
+    private File profileFile(String name) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : name.getBytes(StandardCharsets.UTF_8)) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return new File(directory, PROFILE_PREFIX + hex + PROFILE_SUFFIX);
+    }
+
+    private static String decodeHex(String hex) {
+        if (hex.isEmpty() || hex.length() % 2 != 0) {
+            return null;
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(i * 2), 16);
+            int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+            if (high < 0 || low < 0) {
+                return null;
+            }
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private File tempFile(File target) {
+        return new File(target.getPath() + ".tmp");
+    }
+
+    private File generationFile(File target, int generation) {
+        return generation == 0 ? target : new File(target.getPath() + "." + generation);
+    }
+
+    // 임시 파일에 쓰고 디스크에 반영한 뒤 교체
+    private void writeFile(File target, byte[] data) throws IOException {
+        ensureDirectory();
+        File temp = tempFile(target);
+        try (FileOutputStream fos = new FileOutputStream(temp)) {
+            fos.write(data);
+            long start = System.nanoTime();
+            fos.getFD().sync();
+            syncNanos.addAndGet(System.nanoTime() - start);
+        }
+        commit(temp, target);
+    }
+
+    // 이전 세대를 한 칸씩 밀어 보관하고 임시 파일을 원자적으로 현재 파일로 교체
+    private void commit(File temp, File target) throws IOException {
+        long start = System.nanoTime();
+        for (int generation = GENERATIONS; generation >= 1; generation--) {
+            File newer = generationFile(target, generation - 1);
+            if (newer.exists()) {
+                Files.move(newer.toPath(), generationFile(target, generation).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+        Files.move(temp.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory(directory); // 이름 변경도 디스크에 반영되어야 정전 후에 남음
+        syncNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    // 폴더의 파일 목록(이름 변경) 변경을 디스크에 반영
+    static void syncDirectory(File directory) {
+        try (FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // 폴더를 열 수 없는 운영체제(Windows)에서는 이름 변경이 파일 시스템에서 바로 반영되므로 건너뜀
+        }
+    }
+
+    // 현재 파일을 읽지 못하면 읽을 수 있는 가장 최근 세대를 현재 파일로 복구해서 읽음
+    private <T> T readWithFallback(File target, Reader<T> reader) throws IOException {
+        IOException failure = null;
+        for (int generation = 0; generation <= GENERATIONS; generation++) {
+            File candidate = generationFile(target, generation);
+            if (!candidate.exists()) {
+                continue;
+            }
+
+            try {
+                T result = reader.read(candidate);
+                if (generation == 0) {
+                    return result;
+                }
+            } catch (IOException e) {
+                System.err.println(candidate.getName() + " 읽기 실패: " + e.getMessage());
+                failure = e;
+                continue;
+            }
+
+            // 임시 파일에 복사한 뒤 원자적으로 교체 (복구 도중에 끊겨도 현재 파일이 반쯤 쓰인 채 남지 않음)
+            File temp = tempFile(target);
+            Files.copy(candidate.toPath(), temp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(temp.toPath(), StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            syncDirectory(directory);
+            System.out.println(target.getName() + "을(를) 이전 세대(" + candidate.getName() + ")에서 복구했습니다.");
+            return reader.read(target);
+        }
+        throw failure != null ? failure : new FileNotFoundException(target.getPath());
+    }
+
+    // 마지막 4바이트에 기록된 CRC 확인
+    private static void verifyChecksum(byte[] data, int length) throws IOException {
+        if (length < 0) {
+            throw new IOException("파일이 너무 짧습니다.");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(data, 0, length);
+        int stored = ((data[length] & 0xFF) << 24) | ((data[length + 1] & 0xFF) << 16)
+                | ((data[length + 2] & 0xFF) << 8) | (data[length + 3] & 0xFF);
+        if ((int) crc.getValue() != stored) {
+            throw new IOException("체크섬이 일치하지 않습니다.");
+        }
+    }
+
+    // 파일 앞 4바이트 (형식 구분용)
+    private int readMagic(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(path.toFile()))) {
+            return in.readInt();
+        } catch (EOFException e) {
+            return 0;
+        }
+    }
+
+    private void ensureDirectory() throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("저장 폴더를 만들 수 없습니다: " + directory.getPath());
+        }
+    }
+}
\ No newline at end of file
@@ -1,17 +1,33 @@
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * 단어 데이터를 관리하는 클래스
  * 단어, 뜻, 통계 정보를 저장
+ * 횟수는 여러 스레드가 동시에 바꿔도 빠지지 않도록 원자적으로 더함 (단어마다 잠금이나 카운터 객체를 두지 않음)
+ * 단어장에 학습자 프로필이 선택되어 있으면 횟수와 복습 정보는 그 학습자의 기록(StatisticsOverlay)에서 읽음
  */
 public class WordData implements Serializable {
     private static final long serialVersionUID = 1L;
 
     private String word;        // 단어
-    private String meaning;     // 뜻
-    private int totalCount;     // 총 출제 횟수
-    private int correctCount;   // 정답 횟수
-    private transient WordBookManager manager; // 직렬화에서 제외
+    private volatile String meaning;     // 뜻
+    private volatile int totalCount;     // 총 출제 횟수
+    private volatile int correctCount;   // 정답 횟수
+    private volatile int easeFactor;     // 복습 난이도 계수 x1000 (0이면 기본값)
+    private volatile int interval;       // 복습 간격 (일)
+    private volatile int repetitions;    // 연속으로 기억한 횟수
+    private volatile long dueTime;       // 다음 복습 시각 (0이면 아직 복습 전)
+    private transient WordBook wordBook; // 직렬화에서 제외
+
+    public static final int DEFAULT_EASE_FACTOR = 2500;
+    private static final int MIN_EASE_FACTOR = 1300;
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    private static final AtomicIntegerFieldUpdater<WordData> TOTAL_COUNT =
+            AtomicIntegerFieldUpdater.newUpdater(WordData.class, "totalCount");
+    private static final AtomicIntegerFieldUpdater<WordData> CORRECT_COUNT =
+            AtomicIntegerFieldUpdater.newUpdater(WordData.class, "correctCount");
+    transient int position;              // 단어장 목록 안의 위치 (랜덤 추출과 색인용)
 
     public WordData(String word, String meaning) {
         this.word = word;
@@ -20,33 +36,90 @@ public class WordData implements Serializable {
         this.correctCount = 0;
     }
 
-    // WordBookManager 설정 (통계 변경 시 저장을 위해 필요)
-    public void setManager(WordBookManager manager) {
-        this.manager = manager;
+    // 소속 단어장 설정 (통계 변경 기록을 위해 필요)
+    public void setWordBook(WordBook wordBook) {
+        this.wordBook = wordBook;
     }
 
     // 문제 출제 시 호출
     public void increaseTotal() {
-        this.totalCount++;
-        // 통계 변경 시 즉시 저장
-        if (manager != null) {
-            manager.saveData();
-        }
+        updateCounts(1, 0);
     }
 
     // 정답 시 호출
     public void increaseCorrect() {
-        this.correctCount++;
-        // 통계 변경 시 즉시 저장
-        if (manager != null) {
-            manager.saveData();
+        updateCounts(0, 1);
+    }
+
+    private void updateCounts(int totalDelta, int correctDelta) {
+        // 단어장을 통해 저널에 기록 (단어장이 없으면 메모리에만 반영)
+        if (wordBook != null) {
+            wordBook.recordStatistics(this, totalDelta, correctDelta);
+        } else {
+            applyCounts(totalDelta, correctDelta);
+        }
+    }
+
+    // 실제 카운터 변경 (저널 기록과 함께 호출됨)
+    void applyCounts(int totalDelta, int correctDelta) {
+        if (totalDelta != 0) {
+            TOTAL_COUNT.getAndAdd(this, totalDelta);
+        }
+        if (correctDelta != 0) {
+            CORRECT_COUNT.getAndAdd(this, correctDelta);
         }
     }
 
+    // 복습 결과 반영 (SM-2, quality: 0 전혀 기억 못함 ~ 5 완벽)
+    public void review(int quality, long now) {
+        quality = Math.max(0, Math.min(5, quality));
+        int ease = getEaseFactor();
+        int newRepetitions;
+        int newInterval;
+        if (quality < 3) {
+            newRepetitions = 0;
+            newInterval = 1;
+        } else {
+            newRepetitions = getRepetitions() + 1;
+            if (newRepetitions == 1) {
+                newInterval = 1;
+            } else if (newRepetitions == 2) {
+                newInterval = 6;
+            } else {
+                newInterval = (int) Math.round(getInterval() * ease / 1000.0);
+            }
+        }
+        int miss = 5 - quality;
+        ease = Math.max(MIN_EASE_FACTOR, ease + 100 - miss * (80 + miss * 20));
+        long due = now + newInterval * DAY_MILLIS;
+
+        // 단어장을 통해 저널에 기록 (단어장이 없으면 메모리에만 반영)
+        if (wordBook != null) {
+            wordBook.recordReview(this, ease, newInterval, newRepetitions, due);
+        } else {
+            applyReview(ease, newInterval, newRepetitions, due);
+        }
+    }
+
+    // 실제 복습 정보 변경 (저널 기록과 함께 호출됨)
+    void applyReview(int easeFactor, int interval, int repetitions, long dueTime) {
+        this.easeFactor = easeFactor;
+        this.interval = interval;
+        this.repetitions = repetitions;
+        this.dueTime = dueTime;
+    }
+
     // 정답률 계산
     public double getAccuracy() {
-        if (totalCount == 0) return 0.0;
-        return (double) correctCount / totalCount * 100.0;
+        int total = getTotalCount();
+        if (total == 0) return 0.0;
+        return (double) getCorrectCount() / total * 100.0;
+    }
+
+    // 선택된 학습자의 기록 (없으면 null)
+    private StatisticsOverlay overlay() {
+        WordBook book = wordBook;
+        return book != null ? book.getOverlay() : null;
     }
 
     // Getters and Setters
@@ -56,12 +129,48 @@ public class WordData implements Serializable {
     public String getMeaning() { return meaning; }
     public void setMeaning(String meaning) { this.meaning = meaning; }
 
-    public int getTotalCount() { return totalCount; }
-    public int getCorrectCount() { return correctCount; }
+    // 학습자 프로필이 선택되어 있으면 그 학습자의 값, 아니면 단어장에 저장된 공용 값
+    public int getTotalCount() {
+        StatisticsOverlay overlay = overlay();
+        return overlay != null ? overlay.getTotalCount(word) : totalCount;
+    }
+
+    public int getCorrectCount() {
+        StatisticsOverlay overlay = overlay();
+        return overlay != null ? overlay.getCorrectCount(word) : correctCount;
+    }
+
+    public int getEaseFactor() {
+        StatisticsOverlay overlay = overlay();
+        return overlay != null ? overlay.getEaseFactor(word) : getSharedEaseFactor();
+    }
+
+    public int getInterval() {
+        StatisticsOverlay overlay = overlay();
+        return overlay != null ? overlay.getInterval(word) : interval;
+    }
+
+    public int getRepetitions() {
+        StatisticsOverlay overlay = overlay();
+        return overlay != null ? overlay.getRepetitions(word) : repetitions;
+    }
+
+    public long getDueTime() {
+        StatisticsOverlay overlay = overlay();
+        return overlay != null ? overlay.getDueTime(word) : dueTime;
+    }
+
+    // 프로필과 관계없이 단어장에 저장되는 공용 값 (파일 저장과 공용 통계용)
+    int getSharedTotalCount() { return totalCount; }
+    int getSharedCorrectCount() { return correctCount; }
+    int getSharedEaseFactor() { return easeFactor > 0 ? easeFactor : DEFAULT_EASE_FACTOR; }
+    int getSharedInterval() { return interval; }
+    int getSharedRepetitions() { return repetitions; }
+    long getSharedDueTime() { return dueTime; }
 
     @Override
     public String toString() {
         return String.format("%s : %s (정답률: %.1f%%, 출제: %d회)",
-                word, meaning, getAccuracy(), totalCount);
+                word, meaning, getAccuracy(), getTotalCount());
     }
 }
\ No newline at end of file
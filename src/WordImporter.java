@@ -0,0 +1,350 @@
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.IntConsumer;
+
+/**
+ * CSV/TSV 파일에서 단어 한꺼번에 가져오기
+ * 읽기 스레드가 줄을 묶음 단위로 잘라 넘기면 여러 스레드가 동시에 나누어 파싱하고,
+ * 결과는 끝난 묶음부터 파일 순서대로 모아 중복을 걸러낸 뒤 단어장에 한 번에 추가 (저장 요청도 한 번)
+ * 한 줄은 "단어,뜻" 또는 "단어<탭>뜻"이며 세 번째 열부터는 무시 (내보낸 CSV도 그대로 가져올 수 있음)
+ * CSV의 따옴표 안 줄바꿈은 값으로 보고 다음 줄까지 한 기록으로 읽음
+ */
+public class WordImporter {
+    private static final int BATCH_SIZE = 8192;       // 한 번에 파싱할 기록 수
+    private static final int MAX_REJECTED_LINES = 1000; // 보고용으로 보관할 거부된 줄 수
+    private static final int MAX_RECORD_LINES = 100;  // 따옴표가 닫히지 않아도 한 기록으로 이어 붙일 최대 줄 수
+
+    // 거부된 줄
+    public static class RejectedLine {
+        public final long lineNumber;
+        public final String line;
+        public final String reason;
+
+        RejectedLine(long lineNumber, String line, String reason) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+            this.reason = reason;
+        }
+
+        @Override
+        public String toString() {
+            return lineNumber + "번째 줄 (" + reason + "): " + line;
+        }
+    }
+
+    // 가져오기 결과
+    public static class Result {
+        private int addedCount;
+        private int duplicateCount;
+        private int rejectedCount;
+        private final List<RejectedLine> rejectedLines = new ArrayList<>();
+
+        public int getAddedCount() { return addedCount; }
+        public int getDuplicateCount() { return duplicateCount; }
+        public int getRejectedCount() { return rejectedCount; }
+
+        // 앞쪽 일부만 보관 (전체 개수는 getRejectedCount)
+        public List<RejectedLine> getRejectedLines() { return rejectedLines; }
+
+        private void reject(long lineNumber, String line, String reason) {
+            rejectedCount++;
+            if (rejectedLines.size() < MAX_REJECTED_LINES) {
+                rejectedLines.add(new RejectedLine(lineNumber, line, reason));
+            }
+        }
+    }
+
+    // 파싱된 한 줄 (거부된 줄이면 reason이 있고 meaning에 원래 줄을 담음)
+    private static class Parsed {
+        final String word;
+        final String meaning;
+        final String reason;
+
+        Parsed(String word, String meaning, String reason) {
+            this.word = word;
+            this.meaning = meaning;
+            this.reason = reason;
+        }
+    }
+
+    // 파싱 중인 묶음 (기록마다 시작한 줄 번호)
+    private static class Batch {
+        final long[] lineNumbers;
+        final Future<Parsed[]> parsed;
+
+        Batch(long[] lineNumbers, Future<Parsed[]> parsed) {
+            this.lineNumbers = lineNumbers;
+            this.parsed = parsed;
+        }
+    }
+
+    private final WordBook wordBook;
+    private IntConsumer progressListener = percent -> { };
+
+    public WordImporter(WordBook wordBook) {
+        this.wordBook = wordBook;
+    }
+
+    // 진행률(0~100)을 받을 리스너 (가져오는 스레드에서 호출됨)
+    public WordImporter setProgressListener(IntConsumer progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
+    public Result importFile(File file) throws IOException {
+        boolean tab = file.getName().toLowerCase().endsWith(".tsv");
+        CountingInputStream counter = new CountingInputStream(new FileInputStream(file));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(counter, StandardCharsets.UTF_8), 64 * 1024)) {
+            long length = Math.max(1, file.length());
+            return importLines(reader, tab, () -> progressListener.accept((int) Math.min(99, counter.count * 100 / length)));
+        }
+    }
+
+    // 구분자를 지정하지 않으면 첫 줄에 탭이 있는지로 판단
+    public Result importLines(BufferedReader reader) throws IOException {
+        return importLines(reader, false, () -> { });
+    }
+
+    private Result importLines(BufferedReader reader, boolean tab, Runnable onBatch) throws IOException {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Deque<Batch> inFlight = new ArrayDeque<>(); // 파싱 결과를 아직 모으지 않은 묶음 (스레드 수의 두 배까지)
+        Result result = new Result();
+        Map<String, String> entries = new LinkedHashMap<>();
+        try {
+            // 읽기: 기록을 묶어서 파싱 작업으로 넘기고, 앞선 묶음은 끝나는 대로 모음
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            long[] batchLines = new long[BATCH_SIZE];
+            boolean first = true;
+            long lineNumber = 0;
+            StringBuilder record = null; // 따옴표 안에서 줄이 바뀐 기록
+            long recordLine = 0;
+            int recordLines = 0;
+            String line;
+            while (true) {
+                line = reader.readLine();
+                if (line == null) {
+                    if (record == null) break;
+                    line = record.toString(); // 따옴표가 닫히지 않은 채 끝남 (파싱할 때 거부됨)
+                    record = null;
+                } else {
+                    lineNumber++;
+                    if (first) {
+                        if (line.startsWith("\uFEFF")) {
+                            line = line.substring(1); // UTF-8 BOM
+                        }
+                        tab = tab || line.indexOf('\t') >= 0;
+                        first = false;
+                        if (isHeader(line, tab)) {
+                            continue;
+                        }
+                    }
+                    if (record != null) {
+                        record.append('\n').append(line);
+                        if (endsInsideQuotes(line, true) && ++recordLines < MAX_RECORD_LINES) {
+                            continue;
+                        }
+                        line = record.toString();
+                        record = null;
+                    } else {
+                        recordLine = lineNumber;
+                        if (!tab && endsInsideQuotes(line, false)) {
+                            record = new StringBuilder(line);
+                            recordLines = 1;
+                            continue;
+                        }
+                    }
+                }
+
+                batchLines[batch.size()] = recordLine;
+                batch.add(line);
+                if (batch.size() == BATCH_SIZE) {
+                    inFlight.add(new Batch(batchLines, submit(executor, batch, tab)));
+                    batch = new ArrayList<>(BATCH_SIZE);
+                    batchLines = new long[BATCH_SIZE];
+                    while (inFlight.size() > threads * 2) {
+                        collect(inFlight.poll(), result, entries);
+                    }
+                    onBatch.run();
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new InterruptedIOException("가져오기가 취소되었습니다.");
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                inFlight.add(new Batch(batchLines, submit(executor, batch, tab)));
+            }
+
+            // 남은 묶음을 파일 순서대로 모으고 한 번에 추가
+            while (!inFlight.isEmpty()) {
+                collect(inFlight.poll(), result, entries);
+            }
+            result.addedCount = wordBook.addWords(entries);
+            result.duplicateCount += entries.size() - result.addedCount; // 그사이 다른 곳에서 추가된 단어
+            progressListener.accept(100);
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("가져오기가 취소되었습니다.");
+        } catch (ExecutionException e) {
+            throw new IOException("파일을 읽는 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 파싱이 끝난 묶음의 기록을 거부/중복/추가할 단어로 나눔 (파일 순서대로 호출)
+    private void collect(Batch batch, Result result, Map<String, String> entries)
+            throws InterruptedException, ExecutionException {
+        Parsed[] parsed = batch.parsed.get();
+        for (int i = 0; i < parsed.length; i++) {
+            if (parsed[i] == null) {
+                continue; // 빈 줄
+            }
+            if (parsed[i].reason != null) {
+                result.reject(batch.lineNumbers[i], parsed[i].meaning, parsed[i].reason);
+            } else if (entries.containsKey(parsed[i].word) || wordBook.getWordData(parsed[i].word) != null) {
+                result.duplicateCount++;
+            } else {
+                entries.put(parsed[i].word, parsed[i].meaning);
+            }
+        }
+    }
+
+    private static Future<Parsed[]> submit(ExecutorService executor, List<String> lines, boolean tab) {
+        return executor.submit(() -> {
+            Parsed[] parsed = new Parsed[lines.size()];
+            for (int i = 0; i < parsed.length; i++) {
+                parsed[i] = parseLine(lines.get(i), tab);
+            }
+            return parsed;
+        });
+    }
+
+    // 줄 끝에서 따옴표로 감싼 값 안에 있는지 (inside: 줄 시작이 따옴표 안인지, 값 중간의 따옴표는 글자로 취급)
+    static boolean endsInsideQuotes(String line, boolean inside) {
+        boolean fieldStart = !inside;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inside) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        i++; // "" 는 따옴표 한 글자
+                    } else {
+                        inside = false;
+                    }
+                }
+            } else if (c == '"' && fieldStart) {
+                inside = true;
+                fieldStart = false;
+            } else {
+                fieldStart = c == ',';
+            }
+        }
+        return inside;
+    }
+
+    // 첫 줄이 "word,meaning,..." 또는 "단어,뜻,..."이면 머리글
+    private static boolean isHeader(String line, boolean tab) {
+        String[] fields = tab ? splitTsv(line) : splitCsv(line);
+        if (fields == null) {
+            return false;
+        }
+        String first = fields[0].trim();
+        return first.equalsIgnoreCase("word") || first.equals("단어");
+    }
+
+    // 빈 줄은 null
+    private static Parsed parseLine(String line, boolean tab) {
+        if (line.trim().isEmpty()) {
+            return null;
+        }
+
+        String[] fields = tab ? splitTsv(line) : splitCsv(line);
+        if (fields == null) {
+            return new Parsed(null, line, "따옴표가 닫히지 않음");
+        }
+        if (fields.length < 2) {
+            return new Parsed(null, line, "뜻이 없음");
+        }
+
+        String word = fields[0].trim();
+        String meaning = fields[1].trim();
+        if (word.isEmpty() || meaning.isEmpty()) {
+            return new Parsed(null, line, "빈 값");
+        }
+        return new Parsed(word, meaning, null);
+    }
+
+    private static String[] splitTsv(String line) {
+        int tab = line.indexOf('\t');
+        if (tab < 0) {
+            return new String[]{line};
+        }
+        int end = line.indexOf('\t', tab + 1);
+        return new String[]{line.substring(0, tab), line.substring(tab + 1, end < 0 ? line.length() : end)};
+    }
+
+    // 앞의 두 열만 읽음 ("..." 안의 쉼표와 ""는 값으로 취급, 따옴표가 닫히지 않으면 null)
+    private static String[] splitCsv(String line) {
+        String[] fields = new String[2];
+        int count = 0;
+        int index = 0;
+        while (count < 2 && index <= line.length()) {
+            StringBuilder field = new StringBuilder();
+            if (index < line.length() && line.charAt(index) == '"') {
+                index++;
+                while (true) {
+                    if (index >= line.length()) {
+                        return null;
+                    }
+                    char c = line.charAt(index++);
+                    if (c == '"') {
+                        if (index < line.length() && line.charAt(index) == '"') {
+                            field.append('"');
+                            index++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                }
+                int comma = line.indexOf(',', index);
+                index = comma < 0 ? line.length() + 1 : comma + 1;
+            } else {
+                int comma = line.indexOf(',', index);
+                int end = comma < 0 ? line.length() : comma;
+                field.append(line, index, end);
+                index = end + 1;
+            }
+            fields[count++] = field.toString();
+        }
+        return count == 2 ? fields : new String[]{fields[0]};
+    }
+
+    // 읽은 바이트 수를 세어 진행률 계산에 사용
+    private static class CountingInputStream extends FilterInputStream {
+        volatile long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) count += n;
+            return n;
+        }
+    }
+}
\ No newline at end of file
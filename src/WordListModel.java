@@ -0,0 +1,147 @@
+import javax.swing.*;
+import java.util.*;
+
+/**
+ * 단어 관리 목록용 리스트 모델
+ * 단어를 따로 복사해 두지 않고 단어장 번호로 바로 읽으며, 추가/수정/삭제 때는 바뀐 행만 알림
+ * 검색 중에는 검색 결과 목록을 보여줌
+ * 행마다 표시할 문자열은 단어가 바뀌지 않는 동안 재사용 (화면에 그린 행만, 최대 CACHE_SIZE개)
+ */
+public class WordListModel extends AbstractListModel<WordData> {
+    private static final long serialVersionUID = 1L;
+    private static final int CACHE_SIZE = 2000;
+
+    private final WordBook wordBook;
+    private List<WordData> filter; // 검색 결과 (null이면 단어장 전체)
+
+    // 단어 -> 표시할 문자열 (오래 쓰지 않은 것부터 버림)
+    private final Map<String, RenderedText> cache = new LinkedHashMap<String, RenderedText>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RenderedText> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    // 행 하나에 표시할 문자열 (만들 때의 뜻과 횟수를 함께 기억해서 바뀌었으면 다시 만듦)
+    public static class RenderedText {
+        private final String meaning;
+        private final int totalCount;
+        private final int correctCount;
+        public final String meaningText; // " : 뜻"
+        public final String detailText;  // "정답률: ..% (출제: ..회)"
+
+        RenderedText(WordData wordData) {
+            this.meaning = wordData.getMeaning();
+            this.totalCount = wordData.getTotalCount();
+            this.correctCount = wordData.getCorrectCount();
+            this.meaningText = " : " + meaning;
+            this.detailText = String.format("정답률: %.1f%% (출제: %d회)", wordData.getAccuracy(), totalCount);
+        }
+
+        boolean matches(WordData wordData) {
+            return meaning.equals(wordData.getMeaning())
+                    && totalCount == wordData.getTotalCount()
+                    && correctCount == wordData.getCorrectCount();
+        }
+    }
+
+    public WordListModel(WordBook wordBook) {
+        this.wordBook = wordBook;
+    }
+
+    @Override
+    public int getSize() {
+        return filter != null ? filter.size() : wordBook.getWordCount();
+    }
+
+    @Override
+    public WordData getElementAt(int index) {
+        if (filter == null) {
+            return wordBook.wordDataAt(index);
+        }
+        // 열 단위 단어장의 검색 결과는 복사본이므로 현재 횟수를 다시 읽음
+        WordData wordData = filter.get(index);
+        WordData current = wordBook.getWordData(wordData.getWord());
+        return current != null ? current : wordData;
+    }
+
+    // 검색 결과로 바꾸거나 (null이면) 전체 목록으로 되돌림
+    public void setFilter(List<WordData> filter) {
+        this.filter = filter;
+        fireContentsChanged(this, 0, Math.max(0, getSize() - 1));
+    }
+
+    public boolean isFiltered() {
+        return filter != null;
+    }
+
+    // 단어장 끝에 단어가 추가됨
+    public void wordAdded(WordData wordData) {
+        if (filter == null) {
+            int index = wordBook.getWordCount() - 1;
+            fireIntervalAdded(this, index, index);
+        }
+    }
+
+    // 단어 내용이 바뀜 (표시할 문자열은 다음에 그릴 때 다시 만듦)
+    public void wordChanged(WordData wordData) {
+        cache.remove(wordData.getWord());
+        int index = indexOf(wordData);
+        if (index >= 0) {
+            fireContentsChanged(this, index, index);
+        }
+    }
+
+    // 삭제 전에 알아 둔 번호로 호출 (단어장은 마지막 단어를 빈 자리로 옮기므로 두 행만 바뀜)
+    public void wordRemoved(WordData wordData, int position) {
+        cache.remove(wordData.getWord());
+        if (filter != null) {
+            int index = filterIndexOf(wordData);
+            if (index >= 0) {
+                filter.remove(index);
+                fireIntervalRemoved(this, index, index);
+            }
+            return;
+        }
+
+        int last = wordBook.getWordCount(); // 삭제 전 마지막 번호
+        if (position < last) {
+            fireContentsChanged(this, position, position);
+        }
+        fireIntervalRemoved(this, last, last);
+    }
+
+    // 여러 단어가 한꺼번에 바뀜 (가져오기 등)
+    public void reload() {
+        cache.clear();
+        fireContentsChanged(this, 0, Math.max(0, getSize() - 1));
+    }
+
+    // 목록에 표시할 문자열 (단어가 바뀌지 않았으면 전에 만든 것을 재사용)
+    public RenderedText getRenderedText(WordData wordData) {
+        RenderedText cached = cache.get(wordData.getWord());
+        if (cached == null || !cached.matches(wordData)) {
+            cached = new RenderedText(wordData);
+            cache.put(wordData.getWord(), cached);
+        }
+        return cached;
+    }
+
+    private int indexOf(WordData wordData) {
+        if (filter != null) {
+            return filterIndexOf(wordData);
+        }
+        int position = wordData.position;
+        return position < wordBook.getWordCount() ? position : -1;
+    }
+
+    // 같은 객체가 아닐 수 있으므로 (열 단위 단어장) 단어로 비교
+    private int filterIndexOf(WordData wordData) {
+        for (int i = 0; i < filter.size(); i++) {
+            if (filter.get(i).getWord().equals(wordData.getWord())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
\ No newline at end of file
@@ -3,7 +3,11 @@ import javax.swing.border.TitledBorder;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.util.Collection;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
 
 /**
  * 단어 관리를 위한 GUI 클래스
@@ -11,13 +15,16 @@ import java.util.Collection;
 public class WordManagementGUI extends JFrame {
     private WordBook wordBook;
     private JList<WordData> wordList;
-    private DefaultListModel<WordData> listModel;
+    private WordListModel listModel;
     private JTextField wordField;
     private JTextField meaningField;
     private JButton addButton;
     private JButton updateButton;
     private JButton deleteButton;
     private JLabel statusLabel;
+    private JTextField searchField;
+    private Timer searchTimer; // 입력이 잠시 멈추면 검색
+    private static final int SEARCH_LIMIT = 200; // 검색 결과 최대 표시 개수
 
     public WordManagementGUI(WordBook wordBook) {
         this.wordBook = wordBook;
@@ -103,6 +110,10 @@ public class WordManagementGUI extends JFrame {
         clearButton.addActionListener(e -> clearFields());
         buttonPanel.add(clearButton);
 
+        JButton importButton = new JButton("파일에서 가져오기");
+        importButton.addActionListener(new ImportButtonListener());
+        buttonPanel.add(importButton);
+
         panel.add(buttonPanel, BorderLayout.SOUTH);
 
         return panel;
@@ -114,7 +125,25 @@ public class WordManagementGUI extends JFrame {
                 BorderFactory.createEmptyBorder(0, 10, 10, 10),
                 new TitledBorder("단어 목록")));
 
-        listModel = new DefaultListModel<>();
+        // 검색 (단어나 뜻의 앞부분, 오타도 허용)
+        JPanel searchPanel = new JPanel(new BorderLayout(5, 0));
+        searchPanel.setBorder(BorderFactory.createEmptyBorder(0, 0, 5, 0));
+        searchPanel.add(new JLabel("검색:"), BorderLayout.WEST);
+        searchField = new JTextField();
+        searchTimer = new Timer(150, e -> refreshWordList());
+        searchTimer.setRepeats(false);
+        searchField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+            @Override
+            public void insertUpdate(javax.swing.event.DocumentEvent e) { searchTimer.restart(); }
+            @Override
+            public void removeUpdate(javax.swing.event.DocumentEvent e) { searchTimer.restart(); }
+            @Override
+            public void changedUpdate(javax.swing.event.DocumentEvent e) { searchTimer.restart(); }
+        });
+        searchPanel.add(searchField, BorderLayout.CENTER);
+        panel.add(searchPanel, BorderLayout.NORTH);
+
+        listModel = new WordListModel(wordBook);
         wordList = new JList<>(listModel);
         wordList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
         wordList.addListSelectionListener(e -> {
@@ -123,21 +152,11 @@ public class WordManagementGUI extends JFrame {
             }
         });
 
-        // 커스텀 렌더러로 단어 표시 개선
-        wordList.setCellRenderer(new DefaultListCellRenderer() {
-            @Override
-            public Component getListCellRendererComponent(JList<?> list, Object value,
-                                                          int index, boolean isSelected, boolean cellHasFocus) {
-                super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
-                if (value instanceof WordData) {
-                    WordData wordData = (WordData) value;
-                    setText(String.format("<html><b>%s</b> : %s<br><small>정답률: %.1f%% (출제: %d회)</small></html>",
-                            wordData.getWord(), wordData.getMeaning(),
-                            wordData.getAccuracy(), wordData.getTotalCount()));
-                }
-                return this;
-            }
-        });
+        // 커스텀 렌더러로 단어 표시 개선 (HTML 대신 라벨 세 개, 행 높이 고정으로 전체 행을 재지 않음)
+        WordCellRenderer renderer = new WordCellRenderer();
+        wordList.setCellRenderer(renderer);
+        wordList.setFixedCellHeight(renderer.getPreferredSize().height);
+        wordList.setFixedCellWidth(200); // 실제 너비는 목록 너비를 따름
 
         JScrollPane scrollPane = new JScrollPane(wordList);
         scrollPane.setPreferredSize(new Dimension(0, 300));
@@ -189,13 +208,24 @@ public class WordManagementGUI extends JFrame {
         deleteButton.setEnabled(false);
     }
 
+    // 검색어가 바뀌었거나 여러 단어가 한꺼번에 바뀌었을 때 목록 전체를 다시 읽음
     private void refreshWordList() {
-        listModel.clear();
-        Collection<WordData> words = wordBook.getAllWordData();
-        for (WordData wordData : words) {
-            listModel.addElement(wordData);
+        String query = searchField.getText().trim();
+        if (query.isEmpty()) {
+            listModel.setFilter(null);
+            listModel.reload();
+        } else {
+            listModel.setFilter(wordBook.getSearchIndex().search(query, SEARCH_LIMIT));
+        }
+        updateStatus();
+    }
+
+    private void updateStatus() {
+        if (listModel.isFiltered()) {
+            statusLabel.setText("단어 개수: " + wordBook.getWordCount() + "개 (검색 결과 " + listModel.getSize() + "개)");
+        } else {
+            statusLabel.setText("단어 개수: " + wordBook.getWordCount() + "개");
         }
-        statusLabel.setText("단어 개수: " + wordBook.getWordCount() + "개");
     }
 
     private void showMessage(String message, boolean isError) {
@@ -215,16 +245,98 @@ public class WordManagementGUI extends JFrame {
                 return;
             }
 
+            // 같은 뜻의 단어가 이미 있으면 확인 (뜻 보고 단어 맞히기에서 정답이 둘이 될 수 있음)
+            Set<WordData> sameMeaning = wordBook.findSameMeaningWords(meaning);
+            if (!sameMeaning.isEmpty()) {
+                StringBuilder words = new StringBuilder();
+                for (WordData wordData : sameMeaning) {
+                    if (words.length() > 0) words.append(", ");
+                    words.append(wordData.getWord()).append(" (").append(wordData.getMeaning()).append(")");
+                }
+                int option = JOptionPane.showConfirmDialog(WordManagementGUI.this,
+                        "같은 뜻의 단어가 이미 있습니다: " + words + "\n그래도 추가하시겠습니까?", "중복 뜻",
+                        JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE);
+                if (option != JOptionPane.YES_OPTION) {
+                    return;
+                }
+            }
+
             if (wordBook.addWord(word, meaning)) {
                 showMessage("단어가 추가되었습니다.", false);
                 clearFields();
-                refreshWordList();
+                if (listModel.isFiltered()) {
+                    refreshWordList(); // 새 단어가 검색 결과에 들어갈 수 있음
+                } else {
+                    listModel.wordAdded(wordBook.getWordData(word));
+                    updateStatus();
+                }
             } else {
                 showMessage("단어 추가에 실패했습니다. (중복된 단어이거나 빈 값)", true);
             }
         }
     }
 
+    // CSV/TSV 파일에서 단어 한꺼번에 가져오기 (백그라운드에서 읽고 저장은 한 번)
+    private class ImportButtonListener implements ActionListener {
+        @Override
+        public void actionPerformed(ActionEvent e) {
+            JFileChooser fileChooser = new JFileChooser();
+            fileChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter("CSV/TSV 파일 (*.csv, *.tsv, *.txt)", "csv", "tsv", "txt"));
+            if (fileChooser.showOpenDialog(WordManagementGUI.this) != JFileChooser.APPROVE_OPTION) {
+                return;
+            }
+
+            File file = fileChooser.getSelectedFile();
+            JButton importButton = (JButton) e.getSource();
+            importButton.setEnabled(false);
+            statusLabel.setText("가져오는 중...");
+
+            SwingWorker<WordImporter.Result, Void> worker = new SwingWorker<WordImporter.Result, Void>() {
+                @Override
+                protected WordImporter.Result doInBackground() throws IOException {
+                    return new WordImporter(wordBook)
+                            .setProgressListener(this::setProgress)
+                            .importFile(file);
+                }
+
+                @Override
+                protected void done() {
+                    importButton.setEnabled(true);
+                    try {
+                        showImportResult(get());
+                    } catch (InterruptedException | ExecutionException ex) {
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        showMessage("파일을 가져오는 중 오류가 발생했습니다: " + cause.getMessage(), true);
+                    }
+                    refreshWordList();
+                }
+            };
+            worker.addPropertyChangeListener(event -> {
+                if ("progress".equals(event.getPropertyName()) && !worker.isDone()) {
+                    statusLabel.setText("가져오는 중... " + event.getNewValue() + "%");
+                }
+            });
+            worker.execute();
+        }
+
+        private void showImportResult(WordImporter.Result result) {
+            StringBuilder message = new StringBuilder();
+            message.append("추가된 단어: ").append(result.getAddedCount()).append("개\n");
+            message.append("중복으로 건너뛴 단어: ").append(result.getDuplicateCount()).append("개\n");
+            message.append("잘못된 줄: ").append(result.getRejectedCount()).append("개");
+
+            // 잘못된 줄은 앞쪽 일부만 표시
+            List<WordImporter.RejectedLine> rejectedLines = result.getRejectedLines();
+            for (int i = 0; i < Math.min(10, rejectedLines.size()); i++) {
+                message.append("\n  ").append(rejectedLines.get(i));
+            }
+            if (result.getRejectedCount() > 10) {
+                message.append("\n  ...");
+            }
+            showMessage(message.toString(), false);
+        }
+    }
+
     private class UpdateButtonListener implements ActionListener {
         @Override
         public void actionPerformed(ActionEvent e) {
@@ -242,7 +354,7 @@ public class WordManagementGUI extends JFrame {
 
             if (wordBook.updateWord(selected.getWord(), newMeaning)) {
                 showMessage("단어가 수정되었습니다.", false);
-                refreshWordList();
+                listModel.wordChanged(selected);
                 clearFields();
             } else {
                 showMessage("단어 수정에 실패했습니다.", true);
@@ -267,14 +379,55 @@ public class WordManagementGUI extends JFrame {
             );
 
             if (confirm == JOptionPane.YES_OPTION) {
+                int position = selected.position;
                 if (wordBook.removeWord(selected.getWord())) {
-                    showMessage("단어가 삭제되었습니다.", false);
-                    refreshWordList();
                     clearFields();
+                    listModel.wordRemoved(selected, position);
+                    updateStatus();
+                    showMessage("단어가 삭제되었습니다.", false);
                 } else {
                     showMessage("단어 삭제에 실패했습니다.", true);
                 }
             }
         }
     }
+
+    // 단어 목록 한 행 (첫 줄: 굵은 단어 + 뜻, 둘째 줄: 작은 글씨로 정답률)
+    private class WordCellRenderer extends JPanel implements ListCellRenderer<WordData> {
+        private static final long serialVersionUID = 1L;
+        private final JLabel wordLabel = new JLabel("단어");
+        private final JLabel meaningLabel = new JLabel(" : 뜻");
+        private final JLabel detailLabel = new JLabel("정답률");
+
+        WordCellRenderer() {
+            super(new BorderLayout());
+            setBorder(BorderFactory.createEmptyBorder(1, 2, 1, 2));
+            wordLabel.setFont(wordLabel.getFont().deriveFont(Font.BOLD));
+            detailLabel.setFont(detailLabel.getFont().deriveFont(detailLabel.getFont().getSize2D() - 2f));
+
+            JPanel firstLine = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+            firstLine.setOpaque(false);
+            firstLine.add(wordLabel);
+            firstLine.add(meaningLabel);
+            add(firstLine, BorderLayout.NORTH);
+            add(detailLabel, BorderLayout.SOUTH);
+        }
+
+        @Override
+        public Component getListCellRendererComponent(JList<? extends WordData> list, WordData wordData,
+                                                      int index, boolean isSelected, boolean cellHasFocus) {
+            WordListModel.RenderedText text = listModel.getRenderedText(wordData);
+            wordLabel.setText(wordData.getWord());
+            meaningLabel.setText(text.meaningText);
+            detailLabel.setText(text.detailText);
+
+            Color background = isSelected ? list.getSelectionBackground() : list.getBackground();
+            Color foreground = isSelected ? list.getSelectionForeground() : list.getForeground();
+            setBackground(background);
+            wordLabel.setForeground(foreground);
+            meaningLabel.setForeground(foreground);
+            detailLabel.setForeground(foreground);
+            return this;
+        }
+    }
 }
\ No newline at end of file
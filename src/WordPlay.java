@@ -1,10 +1,15 @@
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.Objects;
 
 /**
  * WordPlay 메인 클래스
  */
 public class WordPlay extends JFrame {
+    private static final String SHARED_PROFILE = "공용 (선택 안 함)";
+
     private WordBookManager manager;
 
     public WordPlay() {
@@ -17,6 +22,14 @@ public class WordPlay extends JFrame {
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLayout(new BorderLayout());
 
+        // 창을 닫아 종료하는 경우에도 남은 데이터 저장
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                manager.shutdown();
+            }
+        });
+
         // 타이틀 패널
         JPanel titlePanel = new JPanel();
         titlePanel.setBackground(Color.decode("#2E86C1"));
@@ -75,6 +88,16 @@ public class WordPlay extends JFrame {
         gbc.gridx = 1; gbc.gridy = 2;
         mainPanel.add(statisticsBtn, gbc);
 
+        JButton reviewBtn = createStyledButton("오늘의 복습", Color.decode("#3498DB"));
+        reviewBtn.addActionListener(e -> startReview());
+        gbc.gridx = 0; gbc.gridy = 3; gbc.gridwidth = 2;
+        mainPanel.add(reviewBtn, gbc);
+
+        // 학습자 선택 패널
+        JPanel profilePanel = createProfilePanel();
+        gbc.gridx = 0; gbc.gridy = 4; gbc.gridwidth = 2;
+        mainPanel.add(profilePanel, gbc);
+
 
         add(mainPanel, BorderLayout.CENTER);
 
@@ -88,7 +111,7 @@ public class WordPlay extends JFrame {
 
         add(bottomPanel, BorderLayout.SOUTH);
 
-        setSize(500, 500);
+        setSize(500, 660);
         setLocationRelativeTo(null);
         setVisible(true);
     }
@@ -135,6 +158,36 @@ public class WordPlay extends JFrame {
         return panel;
     }
 
+    private JPanel createProfilePanel() {
+        JPanel panel = new JPanel(new FlowLayout());
+        panel.setBorder(BorderFactory.createTitledBorder("학습자"));
+
+        JComboBox<String> profileCombo = new JComboBox<>();
+        updateProfileCombo(profileCombo);
+
+        profileCombo.addActionListener(e -> {
+            String selected = (String) profileCombo.getSelectedItem();
+            if (selected == null) {
+                return; // 목록을 다시 채우는 중
+            }
+            String name = selected.equals(SHARED_PROFILE) ? null : selected;
+            if (!Objects.equals(name, manager.getCurrentProfileName())) {
+                manager.selectProfile(name);
+            }
+        });
+
+        JButton createBtn = new JButton("추가");
+        createBtn.addActionListener(e -> createProfile(profileCombo));
+
+        JButton deleteBtn = new JButton("삭제");
+        deleteBtn.addActionListener(e -> deleteProfile(profileCombo));
+
+        panel.add(profileCombo);
+        panel.add(createBtn);
+        panel.add(deleteBtn);
+        return panel;
+    }
+
     private JButton createStyledButton(String text, Color color) {
         JButton button = new JButton(text);
         button.setFont(new Font("Malgun Gothic", Font.BOLD, 14));
@@ -157,6 +210,47 @@ public class WordPlay extends JFrame {
         }
     }
 
+    private void updateProfileCombo(JComboBox<String> combo) {
+        combo.removeAllItems();
+        combo.addItem(SHARED_PROFILE);
+        for (String name : manager.getAllProfileNames()) {
+            combo.addItem(name);
+        }
+        String current = manager.getCurrentProfileName();
+        combo.setSelectedItem(current != null ? current : SHARED_PROFILE);
+    }
+
+    private void createProfile(JComboBox<String> combo) {
+        String name = JOptionPane.showInputDialog(this, "새 학습자 이름을 입력하세요:");
+        if (name != null && !name.trim().isEmpty()) {
+            if (manager.createProfile(name.trim()) && manager.selectProfile(name.trim())) {
+                updateProfileCombo(combo);
+                JOptionPane.showMessageDialog(this, "학습자가 추가되었습니다.");
+            } else {
+                JOptionPane.showMessageDialog(this, "학습자 추가에 실패했습니다.", "오류", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
+    private void deleteProfile(JComboBox<String> combo) {
+        String selected = (String) combo.getSelectedItem();
+        if (selected == null || selected.equals(SHARED_PROFILE)) {
+            JOptionPane.showMessageDialog(this, "삭제할 학습자를 선택하세요.");
+            return;
+        }
+
+        int result = JOptionPane.showConfirmDialog(this,
+                "'" + selected + "' 학습자와 학습 기록을 삭제하시겠습니까?",
+                "확인", JOptionPane.YES_NO_OPTION);
+
+        if (result == JOptionPane.YES_OPTION) {
+            if (manager.deleteProfile(selected)) {
+                updateProfileCombo(combo);
+                JOptionPane.showMessageDialog(this, "학습자가 삭제되었습니다.");
+            }
+        }
+    }
+
     private void createWordBook(JComboBox<String> combo) {
         String name = JOptionPane.showInputDialog(this, "새 단어장 이름을 입력하세요:");
         if (name != null && !name.trim().isEmpty()) {
@@ -240,6 +334,31 @@ public class WordPlay extends JFrame {
         }
     }
 
+    private void startReview() {
+        WordBook wordBook = manager.getCurrentWordBook();
+        if (wordBook == null) {
+            JOptionPane.showMessageDialog(this, "먼저 단어장을 선택하세요.");
+            return;
+        }
+
+        // 선택지를 만들려면 퀴즈와 마찬가지로 4개 이상 필요
+        if (wordBook.getWordCount() < 4) {
+            JOptionPane.showMessageDialog(this,
+                    "복습을 위해서는 최소 4개의 단어가 필요합니다.\n" +
+                            "현재 단어 개수: " + wordBook.getWordCount() + "개",
+                    "단어 부족", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        ReviewQueue reviewQueue = new ReviewQueue(wordBook);
+        if (reviewQueue.size() == 0) {
+            JOptionPane.showMessageDialog(this, "오늘 복습할 단어가 없습니다.");
+            return;
+        }
+
+        new QuizGameGUI(wordBook, reviewQueue).setVisible(true);
+    }
+
     private void startActionGame() {
         if (manager.getCurrentWordBook() == null) {
             JOptionPane.showMessageDialog(this, "먼저 단어장을 선택하세요.");
@@ -277,11 +396,17 @@ public class WordPlay extends JFrame {
 
 
     private void exitProgram() {
-        manager.saveData();
+        manager.shutdown();
         System.exit(0);
     }
 
     public static void main(String[] args) {
+        // 화면 없이 HTTP 서버로 실행: java WordPlay --server [포트]
+        if (args.length > 0 && args[0].equals("--server")) {
+            WordPlayServer.run(args);
+            return;
+        }
+
         try {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception e) {
@@ -0,0 +1,621 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.*;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 화면 없이 단어장을 HTTP/JSON으로 제공하는 서버 모드 (JDK 내장 HttpServer 사용)
+ * 실행: java WordPlay --server [포트]  (기본 포트 8080, 이 컴퓨터에서만 접속 가능)
+ *
+ * GET    /books                          단어장 목록
+ * POST   /books                          단어장 생성 {"name": ...}
+ * DELETE /books/{단어장}                  단어장 삭제
+ * GET    /books/{단어장}/words?offset=&limit=  단어 목록
+ * GET    /books/{단어장}/words/{단어}      단어 하나
+ * POST   /books/{단어장}/words             단어 추가 {"word": ..., "meaning": ...}
+ * PUT    /books/{단어장}/words/{단어}      뜻 수정 {"meaning": ...}
+ * DELETE /books/{단어장}/words/{단어}      단어 삭제
+ * POST   /books/{단어장}/questions         문제 받기 {"mode": "meaning" | "word"}
+ * POST   /questions/{번호}/answer          답 제출 {"option": 0~3}
+ *
+ * 요청은 고정 크기 스레드 풀에서 처리하고, 답안의 횟수 기록은 답안 기록 스레드가 모아서 한 번에 저널에 씀
+ * 출제 횟수는 문제를 낼 때가 아니라 답을 받을 때 정답 여부와 함께 한 건으로 기록 (답하지 않은 문제는 세지 않음)
+ */
+public class WordPlayServer {
+    public static final int DEFAULT_PORT = 8080;
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final int BACKLOG = 1024;
+    private static final int MAX_BATCH = 4096;           // 저널 쓰기 한 번에 묶는 최대 답안 수
+    private static final int DEFAULT_LIMIT = 100;        // 단어 목록 한 번에 돌려주는 기본 개수
+    private static final int MAX_LIMIT = 10_000;
+    private static final long QUESTION_TTL_MILLIS = 10 * 60 * 1000; // 답하지 않은 문제를 보관하는 시간
+    private static final int SWEEP_INTERVAL = 10_000;    // 이만큼 출제할 때마다 만료된 문제 정리
+    private static final int MAX_PENDING_QUESTIONS = 100_000;
+
+    private final WordBookManager manager;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Thread answerWriter;
+    private final BlockingQueue<Answer> answers = new LinkedBlockingQueue<>();
+    private final Map<Long, PendingQuestion> questions = new ConcurrentHashMap<>();
+    private final AtomicLong nextQuestionId = new AtomicLong();
+    private final AtomicLong writtenAnswers = new AtomicLong();
+    private final AtomicLong answerBatches = new AtomicLong();
+    private volatile boolean running = true;
+
+    // 답을 기다리는 문제
+    private static class PendingQuestion {
+        final WordBook wordBook;
+        final QuizEngine.Question question;
+        final long issuedAt;
+
+        PendingQuestion(WordBook wordBook, QuizEngine.Question question, long issuedAt) {
+            this.wordBook = wordBook;
+            this.question = question;
+            this.issuedAt = issuedAt;
+        }
+    }
+
+    // 기록을 기다리는 답안
+    private static class Answer {
+        final WordBook wordBook;
+        final WordData wordData;
+        final boolean correct;
+
+        Answer(WordBook wordBook, WordData wordData, boolean correct) {
+            this.wordBook = wordBook;
+            this.wordData = wordData;
+            this.correct = correct;
+        }
+    }
+
+    // 잘못된 요청 (상태 코드와 함께 오류 응답으로 바꿈)
+    private static class RequestException extends Exception {
+        private static final long serialVersionUID = 1L;
+        final int status;
+
+        RequestException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    public WordPlayServer(WordBookManager manager, int port) throws IOException {
+        // 헤더와 본문을 따로 보내므로 Nagle 알고리즘이 켜져 있으면 응답마다 지연 ACK(약 40ms)를 기다림
+        // (첫 HttpServer를 만들기 전에 설정해야 적용됨, 실행할 때 직접 지정했으면 그 값을 따름)
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        this.manager = manager;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), BACKLOG);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(THREADS,
+                task -> new Thread(task, "WordPlay-Http-" + threadNumber.incrementAndGet()));
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+
+        this.answerWriter = new Thread(this::runAnswerWriter, "WordPlay-Answers");
+        this.answerWriter.setDaemon(true);
+    }
+
+    public void start() {
+        answerWriter.start();
+        server.start();
+        System.out.println("서버가 시작되었습니다: http://127.0.0.1:" + server.getAddress().getPort()
+                + " (요청 처리 스레드 " + THREADS + "개)");
+    }
+
+    // 새 요청을 받지 않고, 남은 답안을 기록한 뒤 종료
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        running = false;
+        answerWriter.interrupt();
+        try {
+            answerWriter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeAnswers(new ArrayList<>(answers));
+        System.out.println("서버를 종료했습니다. (답안 " + writtenAnswers.get() + "건, 저널 쓰기 "
+                + answerBatches.get() + "번)");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // 기록된 답안 수
+    public long getWrittenAnswerCount() {
+        return writtenAnswers.get();
+    }
+
+    // 답안을 기록하려고 저널에 쓴 횟수 (묶음 수)
+    public long getAnswerBatchCount() {
+        return answerBatches.get();
+    }
+
+    // 답안 기록 스레드 - 쌓인 답안을 한꺼번에 꺼내 묶음 하나로 기록 (바쁠수록 묶음이 커짐)
+    private void runAnswerWriter() {
+        List<Answer> batch = new ArrayList<>();
+        while (running) {
+            try {
+                batch.add(answers.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            answers.drainTo(batch, MAX_BATCH - 1);
+            try {
+                writeAnswers(batch);
+            } catch (RuntimeException e) {
+                System.err.println("답안 기록 중 오류 발생: " + e);
+            }
+            batch.clear();
+        }
+    }
+
+    private void writeAnswers(List<Answer> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        manager.batchStatistics(() -> {
+            for (Answer answer : batch) {
+                if (!manager.isRegistered(answer.wordBook)) {
+                    continue; // 답을 기다리는 동안 삭제된 단어장
+                }
+                answer.wordBook.recordStatistics(answer.wordData, 1, answer.correct ? 1 : 0);
+            }
+        });
+        writtenAnswers.addAndGet(batch.size());
+        answerBatches.incrementAndGet();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int status = 200;
+        String response;
+        try {
+            response = route(exchange);
+            if (response == null) {
+                status = 201;
+                response = "{\"ok\":true}";
+            }
+        } catch (RequestException e) {
+            status = e.status;
+            response = "{\"error\":" + quote(e.getMessage()) + "}";
+        } catch (RuntimeException e) {
+            System.err.println("요청 처리 중 오류 발생: " + e);
+            status = 500;
+            response = "{\"error\":" + quote("서버 오류: " + e.getMessage()) + "}";
+        }
+
+        byte[] body = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // 경로와 메서드에 맞는 처리 (본문 없이 성공하면 null)
+    private String route(HttpExchange exchange) throws IOException, RequestException {
+        String method = exchange.getRequestMethod();
+        List<String> path = splitPath(exchange.getRequestURI().getRawPath());
+
+        if (path.size() == 3 && path.get(0).equals("questions") && path.get(2).equals("answer")) {
+            requireMethod(method, "POST");
+            return answer(path.get(1), readBody(exchange));
+        }
+        if (path.isEmpty() || !path.get(0).equals("books")) {
+            throw new RequestException(404, "없는 경로입니다.");
+        }
+
+        if (path.size() == 1) {
+            if (method.equals("GET")) {
+                return listBooks();
+            }
+            requireMethod(method, "POST");
+            String name = require(readBody(exchange), "name");
+            if (!manager.createWordBook(name)) {
+                throw new RequestException(409, "단어장을 만들 수 없습니다: " + name);
+            }
+            return null;
+        }
+
+        String bookName = path.get(1);
+        if (path.size() == 2) {
+            requireMethod(method, "DELETE");
+            if (!manager.deleteWordBook(bookName)) {
+                throw new RequestException(404, "단어장을 찾을 수 없습니다: " + bookName);
+            }
+            return "{\"ok\":true}";
+        }
+
+        WordBook wordBook = manager.getWordBook(bookName);
+        if (wordBook == null) {
+            throw new RequestException(404, "단어장을 찾을 수 없습니다: " + bookName);
+        }
+        switch (path.get(2)) {
+            case "words":
+                if (path.size() == 3) {
+                    if (method.equals("GET")) {
+                        return listWords(wordBook, parseQuery(exchange.getRequestURI().getRawQuery()));
+                    }
+                    requireMethod(method, "POST");
+                    Map<String, String> body = readBody(exchange);
+                    String word = require(body, "word");
+                    String meaning = require(body, "meaning");
+                    if (!editWordBook(bookName, book -> book.addWord(word, meaning))) {
+                        throw new RequestException(409, "이미 있는 단어입니다: " + word);
+                    }
+                    return null;
+                }
+                if (path.size() == 4) {
+                    return word(exchange, method, bookName, wordBook, path.get(3));
+                }
+                break;
+            case "questions":
+                if (path.size() == 3) {
+                    requireMethod(method, "POST");
+                    return question(wordBook, readBody(exchange));
+                }
+                break;
+            default:
+                break;
+        }
+        throw new RequestException(404, "없는 경로입니다.");
+    }
+
+    private String word(HttpExchange exchange, String method, String bookName, WordBook wordBook, String word)
+            throws IOException, RequestException {
+        switch (method) {
+            case "GET": {
+                WordData wordData = wordBook.getWordData(word);
+                if (wordData == null) {
+                    throw new RequestException(404, "단어를 찾을 수 없습니다: " + word);
+                }
+                StringBuilder json = new StringBuilder();
+                appendWord(json, wordData);
+                return json.toString();
+            }
+            case "PUT": {
+                String meaning = require(readBody(exchange), "meaning");
+                if (!editWordBook(bookName, book -> book.updateWord(word, meaning))) {
+                    throw new RequestException(404, "단어를 찾을 수 없습니다: " + word);
+                }
+                return "{\"ok\":true}";
+            }
+            case "DELETE":
+                if (!editWordBook(bookName, book -> book.removeWord(word))) {
+                    throw new RequestException(404, "단어를 찾을 수 없습니다: " + word);
+                }
+                return "{\"ok\":true}";
+            default:
+                throw new RequestException(405, "지원하지 않는 메서드입니다: " + method);
+        }
+    }
+
+    // 단어장 변경 (편집 잠금 안에서 한 번만 저장 요청, 변경 결과를 돌려줌)
+    private boolean editWordBook(String bookName, Predicate<WordBook> change)
+            throws RequestException {
+        boolean[] changed = new boolean[1];
+        if (!manager.edit(bookName, book -> changed[0] = change.test(book))) {
+            throw new RequestException(404, "단어장을 찾을 수 없습니다: " + bookName);
+        }
+        return changed[0];
+    }
+
+    private String listBooks() {
+        StringBuilder json = new StringBuilder("{\"books\":[");
+        List<String> names = manager.getAllWordBookNames();
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"name\":").append(quote(names.get(i)))
+                    .append(",\"wordCount\":").append(manager.getWordCount(names.get(i))).append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    // 단어장 목록 순서로 offset부터 limit개 (단어장 전체를 복사하지 않음)
+    private String listWords(WordBook wordBook, Map<String, String> query) throws RequestException {
+        int offset = parseInt(query.getOrDefault("offset", "0"), "offset");
+        int limit = Math.min(MAX_LIMIT, parseInt(query.getOrDefault("limit", String.valueOf(DEFAULT_LIMIT)), "limit"));
+        if (offset < 0 || limit < 0) {
+            throw new RequestException(400, "offset과 limit은 0 이상이어야 합니다.");
+        }
+
+        StringBuilder json = new StringBuilder();
+        synchronized (wordBook) { // 읽는 동안 번호가 바뀌지 않도록
+            int total = wordBook.getWordCount();
+            json.append("{\"total\":").append(total).append(",\"words\":[");
+            int end = (int) Math.min(total, (long) offset + limit);
+            for (int i = offset; i < end; i++) {
+                if (i > offset) json.append(',');
+                appendWord(json, wordBook.wordDataAt(i));
+            }
+        }
+        return json.append("]}").toString();
+    }
+
+    // 무작위로 고른 단어로 문제를 만들고 답을 기다리는 문제로 보관
+    private String question(WordBook wordBook, Map<String, String> body) throws RequestException {
+        String mode = body.getOrDefault("mode", "meaning");
+        if (!mode.equals("meaning") && !mode.equals("word")) {
+            throw new RequestException(400, "mode는 meaning 또는 word여야 합니다.");
+        }
+        long id = nextQuestionId.incrementAndGet();
+        long now = System.currentTimeMillis();
+        if (id % SWEEP_INTERVAL == 0 || questions.size() >= MAX_PENDING_QUESTIONS) {
+            questions.values().removeIf(pending -> now - pending.issuedAt > QUESTION_TTL_MILLIS);
+            if (questions.size() >= MAX_PENDING_QUESTIONS) {
+                throw new RequestException(503, "답을 기다리는 문제가 너무 많습니다.");
+            }
+        }
+
+        QuizEngine.Question question;
+        synchronized (wordBook) { // 단어를 고르고 보기를 만드는 사이에 단어가 지워지지 않도록
+            String word = wordBook.getRandomWord();
+            WordData wordData = word != null ? wordBook.getWordData(word) : null;
+            if (wordData == null) {
+                throw new RequestException(409, "단어장에 단어가 없습니다.");
+            }
+            question = QuizEngine.createQuestion(1, wordData,
+                    new DistractorEngine(wordBook), mode.equals("meaning"));
+        }
+        questions.put(id, new PendingQuestion(wordBook, question, now));
+
+        StringBuilder json = new StringBuilder("{\"id\":").append(id)
+                .append(",\"prompt\":").append(quote(question.prompt)).append(",\"options\":[");
+        for (int i = 0; i < question.options.size(); i++) {
+            if (i > 0) json.append(',');
+            json.append(quote(question.options.get(i)));
+        }
+        return json.append("]}").toString();
+    }
+
+    // 채점 결과는 바로 돌려주고 횟수 기록은 답안 기록 스레드에 넘김
+    private String answer(String idText, Map<String, String> body) throws RequestException {
+        long id;
+        try {
+            id = Long.parseLong(idText);
+        } catch (NumberFormatException e) {
+            throw new RequestException(404, "없는 문제입니다: " + idText);
+        }
+        int option = parseInt(require(body, "option"), "option");
+
+        PendingQuestion pending = questions.remove(id);
+        if (pending == null) {
+            throw new RequestException(404, "이미 답했거나 만료된 문제입니다: " + id);
+        }
+        if (!manager.isRegistered(pending.wordBook)) {
+            throw new RequestException(409, "문제를 낸 뒤 단어장이 삭제되었습니다.");
+        }
+        boolean correct = option == pending.question.correctIndex;
+        answers.add(new Answer(pending.wordBook, pending.question.wordData, correct));
+        return "{\"correct\":" + correct + ",\"answer\":" + quote(pending.question.getCorrectAnswer()) + "}";
+    }
+
+    private static void appendWord(StringBuilder json, WordData wordData) {
+        json.append("{\"word\":").append(quote(wordData.getWord()))
+                .append(",\"meaning\":").append(quote(wordData.getMeaning()))
+                .append(",\"totalCount\":").append(wordData.getTotalCount())
+                .append(",\"correctCount\":").append(wordData.getCorrectCount()).append('}');
+    }
+
+    private static void requireMethod(String method, String expected) throws RequestException {
+        if (!method.equals(expected)) {
+            throw new RequestException(405, "지원하지 않는 메서드입니다: " + method);
+        }
+    }
+
+    private static String require(Map<String, String> body, String key) throws RequestException {
+        String value = body.get(key);
+        if (value == null || value.trim().isEmpty()) {
+            throw new RequestException(400, key + " 값이 필요합니다.");
+        }
+        return value.trim();
+    }
+
+    private static int parseInt(String value, String key) throws RequestException {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new RequestException(400, key + " 값은 정수여야 합니다: " + value);
+        }
+    }
+
+    // "/books/%EB%8B%A8%EC%96%B4/words" -> [books, 단어, words] (이름 안의 /는 %2F로 보냄)
+    private static List<String> splitPath(String rawPath) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : rawPath.split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(decode(segment));
+            }
+        }
+        return segments;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                query.put(decode(pair.substring(0, equals)), decode(pair.substring(equals + 1)));
+            }
+        }
+        return query;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value.replace("+", "%2B"), StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> readBody(HttpExchange exchange) throws IOException, RequestException {
+        try (InputStream in = exchange.getRequestBody()) {
+            String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            return text.isBlank() ? new HashMap<>() : parseObject(text);
+        }
+    }
+
+    // 값이 문자열, 숫자, true/false/null인 한 단계짜리 JSON 객체만 읽음 (값은 모두 문자열로)
+    static Map<String, String> parseObject(String text) throws RequestException {
+        Map<String, String> values = new HashMap<>();
+        int[] pos = {skipSpaces(text, 0)};
+        expect(text, pos, '{');
+        if (peek(text, pos) == '}') {
+            pos[0]++;
+            return values;
+        }
+        while (true) {
+            String key = readString(text, pos);
+            expect(text, pos, ':');
+            String value;
+            if (peek(text, pos) == '"') {
+                value = readString(text, pos);
+            } else {
+                int start = pos[0];
+                while (pos[0] < text.length() && ",} \t\r\n".indexOf(text.charAt(pos[0])) < 0) {
+                    pos[0]++;
+                }
+                value = text.substring(start, pos[0]);
+                if (value.isEmpty()) {
+                    throw new RequestException(400, "JSON 값이 없습니다: " + key);
+                }
+                if (value.equals("null")) {
+                    value = null;
+                }
+            }
+            values.put(key, value);
+
+            char next = peek(text, pos);
+            pos[0]++;
+            if (next == '}') {
+                return values;
+            }
+            if (next != ',') {
+                throw new RequestException(400, "JSON 형식이 잘못되었습니다.");
+            }
+        }
+    }
+
+    private static String readString(String text, int[] pos) throws RequestException {
+        expect(text, pos, '"');
+        StringBuilder value = new StringBuilder();
+        while (pos[0] < text.length()) {
+            char c = text.charAt(pos[0]++);
+            if (c == '"') {
+                return value.toString();
+            }
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (pos[0] >= text.length()) break;
+            char escaped = text.charAt(pos[0]++);
+            switch (escaped) {
+                case 'n': value.append('\n'); break;
+                case 'r': value.append('\r'); break;
+                case 't': value.append('\t'); break;
+                case 'b': value.append('\b'); break;
+                case 'f': value.append('\f'); break;
+                case 'u':
+                    if (pos[0] + 4 > text.length()) {
+                        throw new RequestException(400, "JSON 문자열이 잘못되었습니다.");
+                    }
+                    try {
+                        value.append((char) Integer.parseInt(text.substring(pos[0], pos[0] + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw new RequestException(400, "JSON 문자열이 잘못되었습니다.");
+                    }
+                    pos[0] += 4;
+                    break;
+                default: value.append(escaped); break; // ", \, /
+            }
+        }
+        throw new RequestException(400, "JSON 문자열이 끝나지 않았습니다.");
+    }
+
+    private static void expect(String text, int[] pos, char expected) throws RequestException {
+        if (peek(text, pos) != expected) {
+            throw new RequestException(400, "JSON 형식이 잘못되었습니다. ('" + expected + "' 필요)");
+        }
+        pos[0]++;
+    }
+
+    // 공백을 건너뛰고 다음 문자 (끝이면 0)
+    private static char peek(String text, int[] pos) {
+        pos[0] = skipSpaces(text, pos[0]);
+        return pos[0] < text.length() ? text.charAt(pos[0]) : 0;
+    }
+
+    private static int skipSpaces(String text, int pos) {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static String quote(String value) {
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': json.append("\\\""); break;
+                case '\\': json.append("\\\\"); break;
+                case '\n': json.append("\\n"); break;
+                case '\r': json.append("\\r"); break;
+                case '\t': json.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        return json.append('"').toString();
+    }
+
+    // 서버 모드 실행 (Ctrl+C로 종료하면 남은 답안과 데이터를 저장)
+    public static void run(String[] args) {
+        int port = DEFAULT_PORT;
+        if (args.length > 1) {
+            try {
+                port = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                System.err.println("사용법: java WordPlay --server [포트]");
+                System.exit(1);
+            }
+        }
+
+        WordBookManager manager = new WordBookManager();
+        try {
+            WordPlayServer server = new WordPlayServer(manager, port);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.stop();
+                manager.shutdown();
+            }, "WordPlay-Shutdown"));
+            server.start();
+        } catch (IOException e) {
+            System.err.println("서버 시작 중 오류 발생: " + e.getMessage());
+            manager.shutdown();
+            System.exit(1);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,387 @@
+import java.util.*;
+
+/**
+ * 단어 검색 색인
+ * 단어와 뜻(쉼표 등으로 나눈 각 항목)을 소문자로 바꿔 정렬 집합에 넣어 두고 앞부분이 같은 항목을 바로 찾음 (자동 완성)
+ * 오타 검색은 3글자 조각(trigram) 색인으로 후보를 좁힌 뒤 편집 거리로 확인
+ * 편집 거리 d 이내면 조각을 최대 3d개까지만 잃으므로, 드문 조각 m개(m > 3d)의 목록만 훑고
+ * 그중 m-3d개 이상에 들어 있는 단어만 후보로 삼아도 빠지는 단어가 없음
+ * 단어 객체 대신 단어장 안의 번호를 보관하고 결과를 돌려줄 때만 단어장에서 꺼냄
+ * 변경은 단어장 잠금 안에서만 하고, 조회도 단어장 잠금을 잡고 함 (번호가 중간에 옮겨지지 않도록)
+ */
+public class WordSearchIndex {
+    private static final char PAD = '\u0001'; // 조각을 만들 때 앞뒤에 붙이는 문자
+    private static final int SCAN_BUDGET = 20000; // 오타 검색에서 훑을 목록 길이의 합 (필수 목록은 제외)
+
+    // 값은 단어가 하나면 Integer, 여러 개면 IntList (대부분 하나라서 목록을 만들지 않음)
+    private final WordBook wordBook;
+    private final TreeMap<String, Object> terms = new TreeMap<>(); // 소문자로 바꾼 단어나 뜻 항목 -> 단어 번호
+    private final GramTable grams = new GramTable();                // 조각 (글자 3개를 long 하나로) -> 단어 번호
+
+    WordSearchIndex(WordBook wordBook) {
+        this.wordBook = wordBook;
+    }
+
+    // 단어 목록으로 만들기 (단어의 번호는 position)
+    WordSearchIndex(WordBook wordBook, Collection<WordData> words) {
+        this(wordBook);
+        for (WordData wordData : words) {
+            add(wordData.position, wordData.getWord(), wordData.getMeaning());
+        }
+    }
+
+    void add(int id, String word, String meaning) {
+        for (String term : termsOf(word, meaning)) {
+            terms.put(term, addTo(terms.get(term), id));
+        }
+        for (long gram : gramsOf(word, meaning)) {
+            grams.put(gram, addTo(grams.get(gram), id));
+        }
+    }
+
+    // 뜻이 바뀌었으면 바뀌기 전 뜻으로 호출
+    void remove(int id, String word, String meaning) {
+        for (String term : termsOf(word, meaning)) {
+            Object rest = removeFrom(terms.get(term), id);
+            if (rest == null) {
+                terms.remove(term);
+            } else {
+                terms.put(term, rest);
+            }
+        }
+        for (long gram : gramsOf(word, meaning)) {
+            grams.put(gram, removeFrom(grams.get(gram), id));
+        }
+    }
+
+    // 단어장에서 단어의 번호가 바뀜 (삭제된 자리로 마지막 단어를 옮길 때)
+    void move(int from, int to, String word, String meaning) {
+        for (String term : termsOf(word, meaning)) {
+            terms.put(term, replaceIn(terms.get(term), from, to));
+        }
+        for (long gram : gramsOf(word, meaning)) {
+            grams.put(gram, replaceIn(grams.get(gram), from, to));
+        }
+    }
+
+    // 단어나 뜻이 prefix로 시작하는 단어 (가나다/알파벳 순, 최대 limit개)
+    public List<WordData> searchPrefix(String prefix, int limit) {
+        synchronized (wordBook) {
+            return wordDataOf(prefixIds(prefix, limit));
+        }
+    }
+
+    private Set<Integer> prefixIds(String prefix, int limit) {
+        String key = normalize(prefix);
+        Set<Integer> result = new LinkedHashSet<>();
+        if (key.isEmpty()) {
+            return result;
+        }
+        for (Map.Entry<String, Object> entry : terms.tailMap(key, true).entrySet()) {
+            if (!entry.getKey().startsWith(key) || result.size() >= limit) {
+                break;
+            }
+            IntList ids = idsOf(entry.getValue());
+            for (int i = 0; i < ids.size() && result.size() < limit; i++) {
+                result.add(ids.get(i));
+            }
+        }
+        return result;
+    }
+
+    // 단어나 뜻 항목과 편집 거리가 가까운 단어 (거리가 가까운 순, 최대 limit개)
+    // 허용 거리는 검색어 길이에 따라 0~2 (3글자 미만은 오타 검색을 하지 않음)
+    public List<WordData> searchFuzzy(String query, int limit) {
+        synchronized (wordBook) {
+            return fuzzy(query, limit);
+        }
+    }
+
+    private List<WordData> fuzzy(String query, int limit) {
+        String key = normalize(query);
+        int maxDistance = key.length() >= 8 ? 2 : key.length() >= 3 ? 1 : 0;
+        if (maxDistance == 0) {
+            return new ArrayList<>();
+        }
+
+        // 드문 조각부터 목록을 훑어 단어마다 겹치는 조각 수를 셈 (최소 3d+1개, 이후로는 SCAN_BUDGET까지)
+        List<IntList> lists = new ArrayList<>();
+        for (long gram : gramsOf(Collections.singletonList(key))) {
+            lists.add(idsOf(grams.get(gram)));
+        }
+        lists.sort(Comparator.comparingInt(IntList::size));
+        int scanned = 0;
+        int scannedSize = 0;
+        Map<Integer, int[]> counts = new HashMap<>();
+        for (IntList list : lists) {
+            if (scanned > 3 * maxDistance && scannedSize + list.size() > SCAN_BUDGET) {
+                break;
+            }
+            for (int i = 0; i < list.size(); i++) {
+                counts.computeIfAbsent(list.get(i), k -> new int[1])[0]++;
+            }
+            scanned++;
+            scannedSize += list.size();
+        }
+        int minShared = scanned - 3 * maxDistance;
+        Set<Integer> candidateIds = new LinkedHashSet<>();
+        for (Map.Entry<Integer, int[]> entry : counts.entrySet()) {
+            if (entry.getValue()[0] >= minShared) {
+                candidateIds.add(entry.getKey());
+            }
+        }
+        List<WordData> candidates = wordDataOf(candidateIds);
+
+        // 편집 거리로 확인하고 거리 순으로 정렬
+        List<WordData> matches = new ArrayList<>();
+        Map<WordData, Integer> distances = new IdentityHashMap<>();
+        for (WordData wordData : candidates) {
+            int best = maxDistance + 1;
+            for (String term : termsOf(wordData.getWord(), wordData.getMeaning())) {
+                best = Math.min(best, distance(key, term, best - 1));
+            }
+            if (best <= maxDistance) {
+                matches.add(wordData);
+                distances.put(wordData, best);
+            }
+        }
+        matches.sort(Comparator.<WordData>comparingInt(distances::get).thenComparing(WordData::getWord));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    // 앞부분이 같은 단어를 먼저, 남은 자리는 오타 검색 결과로 채움
+    public List<WordData> search(String query, int limit) {
+        synchronized (wordBook) {
+            Set<Integer> ids = prefixIds(query, limit);
+            List<WordData> result = wordDataOf(ids);
+            if (result.size() < limit) {
+                for (WordData wordData : fuzzy(query, limit)) {
+                    if (result.size() >= limit) break;
+                    if (ids.add(wordData.position)) {
+                        result.add(wordData);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    // 번호를 단어로 (단어장 잠금 안에서 호출)
+    private List<WordData> wordDataOf(Collection<Integer> ids) {
+        List<WordData> result = new ArrayList<>(ids.size());
+        for (int id : ids) {
+            result.add(wordBook.wordDataAt(id));
+        }
+        return result;
+    }
+
+    private static Object addTo(Object holder, int id) {
+        if (holder == null) {
+            return id;
+        }
+        if (holder instanceof Integer) {
+            IntList list = new IntList(2);
+            list.add((Integer) holder);
+            list.add(id);
+            return list;
+        }
+        ((IntList) holder).add(id);
+        return holder;
+    }
+
+    // 남은 단어가 없으면 null (순서는 상관없으므로 마지막 항목을 빈 자리로 옮김)
+    private static Object removeFrom(Object holder, int id) {
+        if (holder == null || holder instanceof Integer) {
+            return holder == null || (Integer) holder == id ? null : holder;
+        }
+        IntList list = (IntList) holder;
+        list.removeValue(id);
+        if (list.size() > 1) {
+            return list;
+        }
+        return list.isEmpty() ? null : (Object) list.get(0);
+    }
+
+    private static Object replaceIn(Object holder, int from, int to) {
+        if (holder instanceof Integer) {
+            return (Integer) holder == from ? (Object) to : holder;
+        }
+        if (holder != null) {
+            IntList list = (IntList) holder;
+            int index = list.indexOf(from);
+            if (index >= 0) {
+                list.set(index, to);
+            }
+        }
+        return holder;
+    }
+
+    private static IntList idsOf(Object holder) {
+        if (holder == null) {
+            return new IntList(1);
+        }
+        if (holder instanceof Integer) {
+            IntList list = new IntList(1);
+            list.add((Integer) holder);
+            return list;
+        }
+        return (IntList) holder;
+    }
+
+    private static String normalize(String text) {
+        return MeaningIndex.normalize(text);
+    }
+
+    // 단어 하나와 뜻의 각 항목 ("사과, 사과하다" -> "사과", "사과하다")
+    private static List<String> termsOf(String word, String meaning) {
+        List<String> result = MeaningIndex.tokensOf(meaning);
+        String term = normalize(word);
+        if (!result.contains(term)) {
+            result.add(0, term);
+        }
+        return result;
+    }
+
+    private static long[] gramsOf(String word, String meaning) {
+        return gramsOf(termsOf(word, meaning));
+    }
+
+    // 각 항목의 앞에 두 글자, 뒤에 한 글자를 덧대서 길이 n인 항목마다 n+1개의 조각을 만듦 (중복 제거, 정렬됨)
+    private static long[] gramsOf(List<String> terms) {
+        int count = 0;
+        for (String term : terms) {
+            count += term.length() + 1;
+        }
+        long[] result = new long[count];
+        int size = 0;
+        for (String term : terms) {
+            long c0 = PAD, c1 = PAD;
+            for (int i = 0; i <= term.length(); i++) {
+                long c2 = i < term.length() ? term.charAt(i) : PAD;
+                result[size++] = c0 << 32 | c1 << 16 | c2;
+                c0 = c1;
+                c1 = c2;
+            }
+        }
+        Arrays.sort(result);
+        int distinct = 0;
+        for (int i = 0; i < result.length; i++) {
+            if (i == 0 || result[i] != result[i - 1]) {
+                result[distinct++] = result[i];
+            }
+        }
+        return Arrays.copyOf(result, distinct);
+    }
+
+    // 편집 거리 (max를 넘으면 max + 1)
+    private static int distance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > max) {
+                return max + 1; // 이 줄에서 이미 넘었으면 더 볼 필요 없음
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[b.length()], max + 1);
+    }
+
+    // 조각 -> 단어 해시 표 (long 키를 박싱하지 않는 열린 주소법, 조각 수가 단어 수의 몇 배라서 메모리를 아낌)
+    private static class GramTable {
+        private static final long USED = 1L << 48; // 글자 3개는 48비트이므로 빈 칸(0)과 구분하는 표시
+        private long[] keys = new long[1024];
+        private Object[] values = new Object[1024];
+        private int size;
+
+        Object get(long gram) {
+            int slot = find(gram | USED);
+            return values[slot];
+        }
+
+        // value가 null이면 삭제
+        void put(long gram, Object value) {
+            long key = gram | USED;
+            int slot = find(key);
+            if (value == null) {
+                if (keys[slot] != 0) {
+                    delete(slot);
+                }
+                return;
+            }
+            if (keys[slot] == 0) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] = value;
+            if (size * 2 > keys.length) {
+                resize();
+            }
+        }
+
+        // 키가 있는 칸, 없으면 넣을 빈 칸
+        private int find(long key) {
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        // 뒤따르는 칸들을 당겨서 검색이 끊기지 않게 함
+        private void delete(int slot) {
+            int mask = keys.length - 1;
+            int next = slot;
+            while (true) {
+                next = (next + 1) & mask;
+                if (keys[next] == 0) {
+                    break;
+                }
+                int home = hash(keys[next]) & mask;
+                boolean movable = slot <= next ? (home <= slot || home > next) : (home <= slot && home > next);
+                if (movable) {
+                    keys[slot] = keys[next];
+                    values[slot] = values[next];
+                    slot = next;
+                }
+            }
+            keys[slot] = 0;
+            values[slot] = null;
+            size--;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new Object[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = find(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
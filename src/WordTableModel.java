@@ -0,0 +1,332 @@
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * 단어 통계 표용 테이블 모델
+ * 행마다 Object[]를 복사해 두지 않고, 화면에 보이는 행만 단어장에서 번호로 읽어서 표시
+ * 정렬은 문자열 대신 단어 번호 배열(int[])만 재배열
+ * 선택 여부는 단어 문자열로 기억 (단어가 삭제되면 마지막 단어가 그 번호로 옮겨 오므로 번호로는 기억하지 않음)
+ * 행 목록과 정렬 결과는 StatisticsLoader 등에서 백그라운드로 만들어 EDT에서 넣음
+ */
+public class WordTableModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+    private static final String[] COLUMNS = {"단어", "뜻", "출제 횟수", "정답 횟수", "정답률(%)", "상태"};
+
+    private final WordBook wordBook;
+    private final boolean weakOnly;   // 취약 단어만 표시 (맨 앞에 선택 열 추가)
+    private volatile double weakThreshold = 50.0; // 취약 단어 기준 정답률 (%)
+    private int[] rows = new int[0];  // 화면 행 -> 단어장 안의 번호
+    private int rowCount = 0;
+    private final Set<String> selected = new HashSet<>(); // 선택한 단어 (선택할 때 그 행에 있던 단어)
+    private int sortColumn = -1;
+    private boolean ascending = true;
+    private int generation = 0;       // 행 목록이나 정렬 기준이 바뀔 때마다 증가 (늦게 끝난 작업 무시용)
+
+    public WordTableModel(WordBook wordBook, boolean weakOnly) {
+        this.wordBook = wordBook;
+        this.weakOnly = weakOnly;
+    }
+
+    // 다시 불러오기 전에 비움 (정렬 기준은 유지, 불러오는 동안 EDT에서 배열을 늘려 복사하지 않도록 단어 수만큼 확보)
+    public void clear() {
+        rows = new int[wordBook.getWordCount()];
+        rowCount = 0;
+        selected.clear();
+        generation++;
+        fireTableDataChanged();
+    }
+
+    // 불러온 행을 뒤에 덧붙임
+    // 행 추가 대신 전체 변경으로 알림 (행 추가 알림은 JTable이 선택 모델을 추가한 행 수만큼 훑어 EDT가 멈춤)
+    public void appendRows(int[] chunk) {
+        if (chunk.length == 0) return;
+        if (rowCount + chunk.length > rows.length) {
+            rows = Arrays.copyOf(rows, Math.max(rows.length * 2, rowCount + chunk.length));
+        }
+        System.arraycopy(chunk, 0, rows, rowCount, chunk.length);
+        rowCount += chunk.length;
+        fireTableDataChanged();
+    }
+
+    // 백그라운드에서 만든 행 목록으로 교체 (그사이 기준이 바뀌었으면 무시)
+    public void setRows(int[] newRows, int expectedGeneration) {
+        if (expectedGeneration != generation) return;
+        rows = newRows;
+        rowCount = newRows.length;
+        fireTableDataChanged();
+    }
+
+    public int[] getRows() {
+        return Arrays.copyOf(rows, rowCount);
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    // 열 머리글을 누르면 정렬 기준 변경 (같은 열을 다시 누르면 순서 반대, 선택 열이면 false)
+    public boolean toggleSort(int column) {
+        int dataColumn = weakOnly ? column - 1 : column;
+        if (dataColumn < 0) {
+            return false; // 선택 열은 정렬하지 않음
+        }
+
+        ascending = dataColumn != sortColumn || !ascending;
+        sortColumn = dataColumn;
+        generation++;
+        return true;
+    }
+
+    public boolean isSorted() {
+        return sortColumn >= 0;
+    }
+
+    public boolean isWeakOnly() {
+        return weakOnly;
+    }
+
+    // 이 표에 들어갈 단어인지 (백그라운드에서 호출 가능)
+    public boolean accepts(WordData wordData) {
+        return !weakOnly || isWeak(wordData);
+    }
+
+    // 다시 불러와야 반영됨
+    public void setWeakThreshold(double weakThreshold) {
+        this.weakThreshold = weakThreshold;
+    }
+
+    public double getWeakThreshold() {
+        return weakThreshold;
+    }
+
+    // 주어진 단어들만 선택 (이 표에 들어가지 않는 단어는 무시)
+    public void selectWords(Collection<WordData> words) {
+        selected.clear();
+        for (WordData wordData : words) {
+            if (accepts(wordData)) {
+                selected.add(wordData.getWord());
+            }
+        }
+        fireTableDataChanged();
+    }
+
+    public void setAllSelected(boolean select) {
+        for (int row = 0; row < rowCount; row++) {
+            String word = wordAtRow(row);
+            if (word == null) {
+                continue;
+            }
+            if (select) {
+                selected.add(word);
+            } else {
+                selected.remove(word);
+            }
+        }
+        fireTableDataChanged();
+    }
+
+    // 선택한 단어들 (표의 순서와 관계없음)
+    public List<String> getSelectedWords() {
+        return new ArrayList<>(selected);
+    }
+
+    // 행에 지금 있는 단어 (다시 읽기 전에 단어가 삭제되어 번호가 범위를 벗어났으면 null)
+    private String wordAtRow(int row) {
+        int index = rows[row];
+        synchronized (wordBook) {
+            return index < wordBook.getWordCount() ? wordBook.wordAt(index) : null;
+        }
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length; // 취약 단어 표는 상태 열 대신 선택 열
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        if (weakOnly) {
+            return column == 0 ? "선택" : COLUMNS[column - 1];
+        }
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return weakOnly && column == 0 ? Boolean.class : Object.class;
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return weakOnly && column == 0; // 선택 열만 편집 가능
+    }
+
+    @Override
+    public void setValueAt(Object value, int row, int column) {
+        String word = weakOnly && column == 0 ? wordAtRow(row) : null;
+        if (word != null) {
+            if (Boolean.TRUE.equals(value)) {
+                selected.add(word);
+            } else {
+                selected.remove(word);
+            }
+            fireTableCellUpdated(row, column);
+        }
+    }
+
+    // 보이는 행에 대해서만 호출되므로 이때 값을 읽고 형식을 맞춤
+    @Override
+    public Object getValueAt(int row, int column) {
+        int index = rows[row];
+        if (weakOnly) {
+            if (column == 0) {
+                String word = wordAtRow(row);
+                return word != null && selected.contains(word);
+            }
+            column--;
+        }
+        if (index >= wordBook.getWordCount()) {
+            return null; // 다시 읽기 전에 단어가 삭제된 경우
+        }
+
+        WordData wordData = wordBook.wordDataAt(index);
+        switch (column) {
+            case 0: return wordData.getWord();
+            case 1: return wordData.getMeaning();
+            case 2: return wordData.getTotalCount();
+            case 3: return wordData.getCorrectCount();
+            case 4: return String.format("%.1f", wordData.getAccuracy());
+            default: return getStatus(wordData);
+        }
+    }
+
+    public static String getStatus(WordData wordData) {
+        switch (statusRank(wordData)) {
+            case 0: return "미출제";
+            case 1: return "취약";
+            case 2: return "보통";
+            default: return "우수";
+        }
+    }
+
+    private static int statusRank(WordData wordData) {
+        if (wordData.getTotalCount() == 0) {
+            return 0;
+        }
+        double accuracy = wordData.getAccuracy();
+        if (accuracy >= 80) {
+            return 3;
+        } else if (accuracy >= 50) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private boolean isWeak(WordData wordData) {
+        return wordData.getTotalCount() > 0 && wordData.getAccuracy() < weakThreshold;
+    }
+
+    // 현재 정렬 기준으로 정렬한 새 배열 (EDT에서 기준을 읽고, 정렬 자체는 백그라운드에서 수행 가능)
+    // 취약 단어 표는 기준을 고르지 않았으면 정답률 낮은 순
+    public Sorter sorter() {
+        if (sortColumn < 0 && weakOnly) {
+            return new Sorter(4, true, generation);
+        }
+        return new Sorter(sortColumn, ascending, generation);
+    }
+
+    public class Sorter {
+        private final int column;
+        private final boolean ascending;
+        public final int generation;
+
+        private Sorter(int column, boolean ascending, int generation) {
+            this.column = column;
+            this.ascending = ascending;
+            this.generation = generation;
+        }
+
+        public boolean isActive() {
+            return column >= 0;
+        }
+
+        public int[] sort(int[] source) {
+            int[] sorted = source.clone();
+            if (column < 0 || sorted.length < 2) {
+                return sorted;
+            }
+
+            // 정렬 키를 행마다 한 번만 읽어 둠
+            int keyCount = 0;
+            for (int index : sorted) {
+                keyCount = Math.max(keyCount, index + 1);
+            }
+            IntBinaryOperator comparator;
+            if (column <= 1) {
+                String[] keys = new String[keyCount];
+                for (int index : sorted) {
+                    WordData wordData = wordBook.wordDataAt(index);
+                    keys[index] = column == 0 ? wordData.getWord() : wordData.getMeaning();
+                }
+                comparator = (a, b) -> keys[a].compareTo(keys[b]);
+            } else {
+                int[] keys = new int[keyCount];
+                for (int index : sorted) {
+                    keys[index] = numericKey(wordBook.wordDataAt(index), column);
+                }
+                comparator = (a, b) -> Integer.compare(keys[a], keys[b]);
+            }
+
+            IntBinaryOperator order = ascending ? comparator : (a, b) -> comparator.applyAsInt(b, a);
+            mergeSort(sorted, order);
+            return sorted;
+        }
+    }
+
+    private static int numericKey(WordData wordData, int column) {
+        switch (column) {
+            case 2: return wordData.getTotalCount();
+            case 3: return wordData.getCorrectCount();
+            case 4: return (int) Math.round(wordData.getAccuracy() * 10); // 표시 단위(0.1%)
+            default: return statusRank(wordData);
+        }
+    }
+
+    // 박싱 없이 int 배열을 정렬하는 안정 병합 정렬
+    private static void mergeSort(int[] values, IntBinaryOperator comparator) {
+        int[] source = values;
+        int[] target = new int[values.length];
+        for (int width = 1; width < values.length; width *= 2) {
+            for (int low = 0; low < values.length; low += 2 * width) {
+                int middle = Math.min(low + width, values.length);
+                int high = Math.min(low + 2 * width, values.length);
+                int left = low;
+                int right = middle;
+                for (int i = low; i < high; i++) {
+                    if (left < middle && (right >= high || comparator.applyAsInt(source[left], source[right]) <= 0)) {
+                        target[i] = source[left++];
+                    } else {
+                        target[i] = source[right++];
+                    }
+                }
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != values) {
+            System.arraycopy(source, 0, values, 0, values.length);
+        }
+    }
+}
\ No newline at end of file